@@ -0,0 +1,153 @@
+package org.classnation.dashboardservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.classnation.dashboardservice.dto.ApiResponse;
+import org.classnation.dashboardservice.dto.DogResponse;
+import org.classnation.dashboardservice.dto.MatchingCandidateResponse;
+import org.classnation.dashboardservice.dto.MatchingCandidatesResponse;
+import org.classnation.dashboardservice.entity.Activity;
+import org.classnation.dashboardservice.entity.DogSize;
+import org.classnation.dashboardservice.entity.Temperament;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of the {@link ApiResponse} envelope with the precomputed envelope writer against Jackson's
+ * reflective bean serializer, per response format. Payload sizes are printed once per trial; the two writers
+ * produce identical bytes, which setup checks.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs="ApiResponseSerialization -prof gc"} to include allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"dog", "matchingCandidates"})
+    public String payload;
+
+    @Param({"json", "json-gzip", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper envelopeMapper;
+    private ObjectMapper beanMapper;
+    private ApiResponse<?> response;
+    private boolean gzip;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        gzip = format.equals("json-gzip");
+        envelopeMapper = mapper(factory.copy());
+        beanMapper = mapper(factory.copy()).addMixIn(ApiResponse.class, BeanSerialized.class);
+
+        response = ApiResponse.success(payload.equals("dog") ? dog() : matchingCandidates());
+        // A fixed timestamp keeps the output comparable between runs
+        response.setTimestamp(LocalDateTime.of(2026, 10, 18, 13, 45, 12, 345_678_000));
+
+        byte[] envelope = envelopeWriter();
+        byte[] bean = beanSerializer();
+        if (!gzip && !Arrays.equals(envelope, bean)) {
+            throw new IllegalStateException("Envelope writer output differs from the bean serializer");
+        }
+        System.out.printf("%n%s as %s: %d bytes%n", payload, format, envelope.length);
+    }
+
+    @Benchmark
+    public byte[] envelopeWriter() throws IOException {
+        return write(envelopeMapper);
+    }
+
+    @Benchmark
+    public byte[] beanSerializer() throws IOException {
+        return write(beanMapper);
+    }
+
+    private byte[] write(ObjectMapper mapper) throws IOException {
+        if (!gzip) {
+            return mapper.writeValueAsBytes(response);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(out, response);
+        }
+        return bytes.toByteArray();
+    }
+
+    // Same settings as spring.jackson.* in application.properties
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .build();
+    }
+
+    private static DogResponse dog() {
+        return DogResponse.builder()
+                .dogUuid("3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4e")
+                .shelterName("Seoul Yongsan Animal Shelter")
+                .name("Baduk")
+                .size(DogSize.MEDIUM)
+                .activity(Activity.MEDIUM)
+                .temperament(Temperament.CALM)
+                .diseases("None")
+                .isAdopted(false)
+                .build();
+    }
+
+    private static MatchingCandidatesResponse matchingCandidates() {
+        return MatchingCandidatesResponse.builder()
+                .candidates(List.of(
+                        candidate("3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4e", 0.92),
+                        candidate("7a1c2d3e-4f5a-4b6c-9d8e-0f1a2b3c4d5e", 0.87),
+                        candidate("b4c5d6e7-f8a9-4b0c-8d1e-2f3a4b5c6d7e", 0.81)))
+                .build();
+    }
+
+    private static MatchingCandidateResponse candidate(String dogUuid, double score) {
+        return MatchingCandidateResponse.builder()
+                .dogUuid(dogUuid)
+                .score(score)
+                .reason("차분한 성격과 낮은 활동량이 실내 생활이 많은 어르신의 생활 패턴과 잘 맞고, "
+                        + "하루 산책 시간도 어르신의 외출 시간 안에서 충분히 소화할 수 있습니다.")
+                .build();
+    }
+
+    // Restores Jackson's bean serializer for the baseline
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private abstract static class BeanSerialized {
+    }
+}
@@ -0,0 +1,71 @@
+package org.classnation.dashboardservice.benchmark;
+
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the regex the services used to validate UUID path variables against {@link UuidValidator}.
+ * <p>
+ * Run with {@code gradle jmh -PjmhArgs="UuidValidation -prof gc"} to include allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidValidationBenchmark {
+
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
+    );
+
+    @Param({
+            "3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4e", // valid, lower case
+            "3F2B8C1E-4D5A-4B6C-8D7E-9F0A1B2C3D4E", // valid, upper case
+            "3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4g", // invalid last character
+            "not-a-uuid"                            // invalid length
+    })
+    public String input;
+
+    @Benchmark
+    public boolean regexMatches() {
+        return UUID_PATTERN.matcher(input).matches();
+    }
+
+    @Benchmark
+    public boolean validatorIsValid() {
+        return UuidValidator.isValid(input);
+    }
+
+    @Benchmark
+    public Object uuidFromString() {
+        try {
+            return UUID.fromString(input);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validatorParse() {
+        try {
+            return UuidValidator.parse(input);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
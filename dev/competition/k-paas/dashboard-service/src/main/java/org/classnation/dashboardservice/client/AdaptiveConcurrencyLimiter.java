@@ -0,0 +1,230 @@
+package org.classnation.dashboardservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import org.classnation.dashboardservice.exception.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit on the exchanges of one downstream WebClient.
+ * <p>
+ * Each answered exchange is a sample: a 5xx, 429, connection error or an answer slower than
+ * {@code latency-threshold} multiplies the limit by {@code backoff-ratio}; any other answer adds one while the limit
+ * is actually in use. Exchanges over the limit wait in a bounded queue for at most {@code max-wait} and are then
+ * rejected with {@link ConcurrencyLimitExceededException}, as are exchanges arriving at a full queue. The limit only
+ * counts time to response headers; cancelled exchanges (e.g. a losing hedge) give their permit back unsampled.
+ */
+public class AdaptiveConcurrencyLimiter implements ExchangeFilterFunction, MeterBinder {
+
+    private final String client;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueue;
+    private final Duration maxWait;
+    private final Counter rejected;
+
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(String client, ExternalServiceProperties.Limiter limiter,
+                                      MeterRegistry meterRegistry) {
+        this.client = client;
+        this.enabled = limiter.isEnabled();
+        this.minLimit = limiter.getMinLimit();
+        this.maxLimit = limiter.getMaxLimit();
+        this.backoffRatio = limiter.getBackoffRatio();
+        this.latencyThresholdNanos = limiter.getLatencyThreshold().toNanos();
+        this.maxQueue = limiter.getMaxQueue();
+        this.maxWait = limiter.getMaxWait();
+        this.limit = limiter.getInitialLimit();
+
+        this.rejected = Counter.builder("concurrency.limiter.rejected")
+                .description("Downstream calls rejected by the adaptive concurrency limit")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers the limit, in-flight and queue gauges; Spring binds every {@link MeterBinder} bean on startup.
+     */
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        Gauge.builder("concurrency.limiter.limit", this, AdaptiveConcurrencyLimiter::currentLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.in.flight", this, AdaptiveConcurrencyLimiter::currentInFlight)
+                .description("Downstream calls holding a permit")
+                .tag("client", client)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.limiter.queued", this, AdaptiveConcurrencyLimiter::currentQueued)
+                .description("Downstream calls waiting for a permit")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        if (!enabled) {
+            return next.exchange(request);
+        }
+
+        return acquire().flatMap(permit -> next.exchange(request)
+                .doOnNext(response -> permit.complete(isOverload(response.statusCode())))
+                .doOnError(e -> permit.complete(true))
+                .doOnCancel(permit::abandon));
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.<Permit>create(sink -> {
+                    Waiter waiter = null;
+                    boolean admitted = false;
+
+                    synchronized (this) {
+                        if (inFlight < (int) limit) {
+                            inFlight++;
+                            admitted = true;
+                        } else if (waiters.size() < maxQueue) {
+                            waiter = new Waiter(sink);
+                            waiters.add(waiter);
+                        }
+                    }
+
+                    if (admitted) {
+                        sink.success(new Permit());
+                    } else if (waiter != null) {
+                        sink.onCancel(waiter::cancel);
+                    } else {
+                        sink.error(rejection("queue is full"));
+                    }
+                })
+                // A permit granted just as its waiter timed out is dropped by the sink; hand it back
+                .doOnDiscard(Permit.class, Permit::abandon)
+                .timeout(maxWait)
+                .onErrorMap(TimeoutException.class, e -> rejection("no permit within " + maxWait));
+    }
+
+    private void release(long latencyNanos, Sample sample) {
+        List<Waiter> granted = new ArrayList<>();
+
+        synchronized (this) {
+            int used = inFlight;
+            inFlight--;
+
+            if (sample == Sample.DROP || (sample == Sample.SUCCESS && latencyNanos > latencyThresholdNanos)) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (sample == Sample.SUCCESS && used * 2 >= limit) {
+                // Only grow while the limit is actually being used
+                limit = Math.min(maxLimit, limit + 1);
+            }
+
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                inFlight++;
+                granted.add(waiters.poll());
+            }
+        }
+
+        // Completed outside the lock: the waiter's exchange starts on this thread
+        for (Waiter waiter : granted) {
+            waiter.grant(new Permit());
+        }
+    }
+
+    private ConcurrencyLimitExceededException rejection(String reason) {
+        rejected.increment();
+        return new ConcurrencyLimitExceededException(
+                "Concurrency limit for " + client + " reached (" + reason + ")");
+    }
+
+    private static boolean isOverload(HttpStatusCode status) {
+        return status.is5xxServerError() || status.value() == HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private synchronized double currentLimit() {
+        return limit;
+    }
+
+    private synchronized double currentInFlight() {
+        return inFlight;
+    }
+
+    private synchronized double currentQueued() {
+        return waiters.size();
+    }
+
+    private enum Sample {
+        SUCCESS,
+        DROP,
+        IGNORE
+    }
+
+    private final class Permit {
+
+        private final long start = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private void complete(boolean overload) {
+            if (released.compareAndSet(false, true)) {
+                release(System.nanoTime() - start, overload ? Sample.DROP : Sample.SUCCESS);
+            }
+        }
+
+        private void abandon() {
+            if (released.compareAndSet(false, true)) {
+                release(0, Sample.IGNORE);
+            }
+        }
+    }
+
+    private final class Waiter {
+
+        private static final int WAITING = 0;
+        private static final int GRANTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MonoSink<Permit> sink;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        private void grant(Permit permit) {
+            if (state.compareAndSet(WAITING, GRANTED)) {
+                sink.success(permit);
+            } else {
+                permit.abandon();
+            }
+        }
+
+        private void cancel() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                synchronized (AdaptiveConcurrencyLimiter.this) {
+                    waiters.remove(this);
+                }
+            }
+        }
+    }
+}
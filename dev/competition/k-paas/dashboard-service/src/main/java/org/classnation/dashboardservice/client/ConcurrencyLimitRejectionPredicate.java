@@ -0,0 +1,26 @@
+package org.classnation.dashboardservice.client;
+
+import org.classnation.dashboardservice.exception.ConcurrencyLimitExceededException;
+
+import java.util.function.Predicate;
+
+/**
+ * Circuit breaker ignore-exception predicate: calls shed by {@link AdaptiveConcurrencyLimiter} never reached the
+ * downstream and must not count as its failures. The clients wrap the rejection, so the cause chain is checked.
+ */
+public class ConcurrencyLimitRejectionPredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable failure) {
+        return isRejection(failure);
+    }
+
+    public static boolean isRejection(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConcurrencyLimitExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
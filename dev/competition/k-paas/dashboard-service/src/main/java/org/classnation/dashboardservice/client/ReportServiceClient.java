@@ -2,6 +2,7 @@ package org.classnation.dashboardservice.client;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionRequest;
@@ -12,33 +13,31 @@ import org.classnation.dashboardservice.dto.LatestDangerResponse;
 import org.classnation.dashboardservice.dto.MatchingCandidatesResponse;
 import org.classnation.dashboardservice.exception.ExternalServiceException;
 import org.classnation.dashboardservice.exception.ServiceUnavailableException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ReportServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
-    @Value("${external.report-service.url:http://localhost:1112}")
-    private String reportServiceUrl;
+    private final WebClient reportServiceWebClient;
+    private final RequestHedger reportServiceRequestHedger;
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "reportService"}, histogram = true)
     @CircuitBreaker(name = "reportService", fallbackMethod = "registerSeniorFallback")
     @Retry(name = "reportService")
     public void registerSenior(ReportServiceRegisterSeniorRequest request) {
         log.info("Registering senior with report-service: {}", request.getUserId());
 
         try {
-            webClientBuilder.build()
+            reportServiceWebClient
                     .post()
-                    .uri(reportServiceUrl + "/report-service/register/seniors")
+                    .uri("/report-service/register/seniors")
                     .bodyValue(request)
                     .retrieve()
                     .onStatus(
@@ -46,7 +45,6 @@ public class ReportServiceClient {
                             response -> Mono.error(new ExternalServiceException("Report service error"))
                     )
                     .bodyToMono(Void.class)
-                    .timeout(Duration.ofMillis(3000))
                     .block();
         } catch (Exception e) {
             log.error("Error calling report-service register senior endpoint", e);
@@ -59,15 +57,16 @@ public class ReportServiceClient {
         throw new ServiceUnavailableException("Report service is currently unavailable", ex);
     }
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "reportService"}, histogram = true)
     @CircuitBreaker(name = "reportService", fallbackMethod = "registerDogFallback")
     @Retry(name = "reportService")
     public void registerDog(ReportServiceRegisterDogRequest request) {
         log.info("Registering dog with report-service: {}", request.getName());
 
         try {
-            webClientBuilder.build()
+            reportServiceWebClient
                     .post()
-                    .uri(reportServiceUrl + "/report-service/register/dogs")
+                    .uri("/report-service/register/dogs")
                     .bodyValue(request)
                     .retrieve()
                     .onStatus(
@@ -75,7 +74,6 @@ public class ReportServiceClient {
                             response -> Mono.error(new ExternalServiceException("Report service error"))
                     )
                     .bodyToMono(Void.class)
-                    .timeout(Duration.ofMillis(3000))
                     .block();
         } catch (Exception e) {
             log.error("Error calling report-service register dog endpoint", e);
@@ -88,22 +86,22 @@ public class ReportServiceClient {
         throw new ServiceUnavailableException("Report service is currently unavailable", ex);
     }
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "reportService"}, histogram = true)
     @CircuitBreaker(name = "reportService", fallbackMethod = "getMatchingCandidatesFallback")
     @Retry(name = "reportService")
     public MatchingCandidatesResponse getMatchingCandidates(String humanUuid, int top) {
         log.info("Getting matching candidates for human: {}, top: {}", humanUuid, top);
 
         try {
-            return webClientBuilder.build()
-                    .get()
-                    .uri(reportServiceUrl + "/report-service/matching/seniors/" + humanUuid + "?top=" + top)
-                    .retrieve()
-                    .onStatus(
-                            status -> status.isError(),
-                            response -> Mono.error(new ExternalServiceException("Report service error"))
-                    )
-                    .bodyToMono(MatchingCandidatesResponse.class)
-                    .timeout(Duration.ofMillis(3000))
+            return reportServiceRequestHedger.hedge("getMatchingCandidates", () -> reportServiceWebClient
+                            .get()
+                            .uri("/report-service/matching/seniors/{humanUuid}?top={top}", humanUuid, top)
+                            .retrieve()
+                            .onStatus(
+                                    status -> status.isError(),
+                                    response -> Mono.error(new ExternalServiceException("Report service error"))
+                            )
+                            .bodyToMono(MatchingCandidatesResponse.class))
                     .block();
         } catch (Exception e) {
             log.error("Error calling report-service matching endpoint", e);
@@ -116,15 +114,19 @@ public class ReportServiceClient {
         throw new ServiceUnavailableException("Report service is currently unavailable", ex);
     }
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "reportService"}, histogram = true)
     @CircuitBreaker(name = "reportService", fallbackMethod = "confirmAdoptionFallback")
     @Retry(name = "reportService")
-    public ReportServiceConfirmAdoptionResponse confirmAdoption(ReportServiceConfirmAdoptionRequest request) {
+    public ReportServiceConfirmAdoptionResponse confirmAdoption(ReportServiceConfirmAdoptionRequest request,
+                                                               String idempotencyKey) {
         log.info("Confirming adoption with report-service: {} - {}", request.getHumanUuid(), request.getDogUuid());
 
         try {
-            return webClientBuilder.build()
+            // The key is the same on every retry of one confirmation, so report-service applies it only once
+            return reportServiceWebClient
                     .post()
-                    .uri(reportServiceUrl + "/report-service/adoptions/confirm")
+                    .uri("/report-service/adoptions/confirm")
+                    .header(IDEMPOTENCY_KEY_HEADER, idempotencyKey)
                     .bodyValue(request)
                     .retrieve()
                     .onStatus(
@@ -132,7 +134,6 @@ public class ReportServiceClient {
                             response -> Mono.error(new ExternalServiceException("Report service error"))
                     )
                     .bodyToMono(ReportServiceConfirmAdoptionResponse.class)
-                    .timeout(Duration.ofMillis(3000))
                     .block();
         } catch (Exception e) {
             log.error("Error calling report-service confirm adoption endpoint", e);
@@ -141,27 +142,28 @@ public class ReportServiceClient {
     }
 
     private ReportServiceConfirmAdoptionResponse confirmAdoptionFallback(
-            ReportServiceConfirmAdoptionRequest request, Exception ex) {
+            ReportServiceConfirmAdoptionRequest request, String idempotencyKey, Exception ex) {
         log.error("Circuit breaker opened for report-service confirmAdoption: {}", ex.getMessage());
         throw new ServiceUnavailableException("Report service is currently unavailable", ex);
     }
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "reportService"}, histogram = true)
     @CircuitBreaker(name = "reportService", fallbackMethod = "getLatestDangerReportFallback")
     @Retry(name = "reportService")
     public LatestDangerResponse getLatestDangerReport(String humanUuid) {
         log.info("Getting latest danger report for human: {}", humanUuid);
 
         try {
-            return webClientBuilder.build()
-                    .get()
-                    .uri(reportServiceUrl + "/report-service/reports/" + humanUuid + "?is_danger=true&limit=1&sort=created_at:desc")
-                    .retrieve()
-                    .onStatus(
-                            status -> status.isError(),
-                            response -> Mono.error(new ExternalServiceException("Report service error"))
-                    )
-                    .bodyToMono(LatestDangerResponse.class)
-                    .timeout(Duration.ofMillis(3000))
+            return reportServiceRequestHedger.hedge("getLatestDangerReport", () -> reportServiceWebClient
+                            .get()
+                            .uri("/report-service/reports/{humanUuid}?is_danger=true&limit=1&sort=created_at:desc",
+                                    humanUuid)
+                            .retrieve()
+                            .onStatus(
+                                    status -> status.isError(),
+                                    response -> Mono.error(new ExternalServiceException("Report service error"))
+                            )
+                            .bodyToMono(LatestDangerResponse.class))
                     .block();
         } catch (Exception e) {
             log.error("Error calling report-service latest danger endpoint", e);
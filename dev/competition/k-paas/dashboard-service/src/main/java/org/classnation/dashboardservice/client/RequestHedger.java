@@ -0,0 +1,180 @@
+package org.classnation.dashboardservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Hedges idempotent downstream reads: when the first request has not answered within the configured latency
+ * percentile of recent attempts, an identical second request is sent and whichever answers first wins; the other
+ * is cancelled. A request that fails before the delay is not hedged, retries stay with Resilience4j.
+ * <p>
+ * Hedges are drawn from a budget shared by all operations of the downstream, refilled by {@code budget-ratio} per
+ * request, so a slow downstream sees at most that fraction of extra load. Comparing the
+ * {@code hedged.request.latency} and {@code hedged.request.attempt.latency} percentiles shows the tail-latency gain.
+ */
+public class RequestHedger {
+
+    private static final long MIN_SAMPLES = 100;
+
+    private final String client;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double delayPercentile;
+    private final Duration minDelay;
+    private final Duration maxDelay;
+    private final TokenBudget budget;
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public RequestHedger(String client, ExternalServiceProperties.Hedging hedging, MeterRegistry meterRegistry) {
+        this.client = client;
+        this.meterRegistry = meterRegistry;
+        this.enabled = hedging.isEnabled();
+        this.delayPercentile = hedging.getDelayPercentile();
+        this.minDelay = hedging.getMinDelay();
+        this.maxDelay = hedging.getMaxDelay();
+        this.budget = new TokenBudget(hedging.getBudgetRatio(), hedging.getBudgetBurst());
+    }
+
+    /**
+     * Runs {@code request}, hedging it when enabled. The supplier must build a fresh, cold request on every call.
+     */
+    public <T> Mono<T> hedge(String operation, Supplier<Mono<T>> request) {
+        if (!enabled) {
+            return request.get();
+        }
+
+        return Mono.defer(() -> {
+            Meters operationMeters = meters.computeIfAbsent(operation, this::register);
+            Duration delay = operationMeters.hedgeDelay();
+            Timer.Sample sample = Timer.start(meterRegistry);
+            budget.deposit();
+
+            Sinks.One<Boolean> primaryFailed = Sinks.one();
+            Mono<Attempt<T>> primary = attempt(request, operationMeters, false)
+                    .doOnError(e -> primaryFailed.tryEmitValue(true));
+            Mono<Attempt<T>> hedged = Mono.delay(delay)
+                    .takeUntilOther(primaryFailed.asMono())
+                    .filter(tick -> acquireHedge(operationMeters))
+                    .flatMap(tick -> attempt(request, operationMeters, true));
+
+            return Mono.firstWithValue(primary, hedged)
+                    .onErrorMap(NoSuchElementException.class, RequestHedger::firstFailure)
+                    .doOnNext(winner -> {
+                        if (winner.hedge()) {
+                            operationMeters.wins.increment();
+                        }
+                    })
+                    .doFinally(signal -> sample.stop(operationMeters.latency))
+                    .flatMap(winner -> Mono.justOrEmpty(winner.value()));
+        });
+    }
+
+    private <T> Mono<Attempt<T>> attempt(Supplier<Mono<T>> request, Meters operationMeters, boolean hedge) {
+        return Mono.defer(() -> {
+            if (hedge) {
+                operationMeters.hedges.increment();
+            }
+            long start = System.nanoTime();
+            // Wrapped so an empty body still counts as an answer instead of waiting for the other attempt.
+            // Failed and cancelled attempts are recorded too, so a downstream that times out or loses every race
+            // still raises the percentile the hedge delay is taken from.
+            return request.get()
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doFinally(signal -> operationMeters.attemptLatency.record(
+                            System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .map(value -> new Attempt<>(value, hedge));
+        });
+    }
+
+    private boolean acquireHedge(Meters operationMeters) {
+        if (!budget.tryWithdraw(1)) {
+            operationMeters.budgetExhausted.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private static Throwable firstFailure(NoSuchElementException e) {
+        // firstWithValue wraps the attempts' errors in a composite cause
+        List<Throwable> causes = Exceptions.unwrapMultiple(e.getCause());
+        return causes.isEmpty() || causes.get(0) == null ? e : causes.get(0);
+    }
+
+    private Meters register(String operation) {
+        return new Meters(
+                Timer.builder("hedged.request.latency")
+                        .description("Latency seen by callers of hedged requests")
+                        .tags("client", client, "operation", operation)
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .register(meterRegistry),
+                Timer.builder("hedged.request.attempt.latency")
+                        .description("Time each attempt ran until it answered, failed or was cancelled")
+                        .tags("client", client, "operation", operation)
+                        .publishPercentiles(0.5, delayPercentile, 0.99)
+                        .register(meterRegistry),
+                Counter.builder("hedged.request.hedges")
+                        .description("Hedge requests sent")
+                        .tags("client", client, "operation", operation)
+                        .register(meterRegistry),
+                Counter.builder("hedged.request.hedge.wins")
+                        .description("Requests answered by the hedge before the original attempt")
+                        .tags("client", client, "operation", operation)
+                        .register(meterRegistry),
+                Counter.builder("hedged.request.budget.exhausted")
+                        .description("Hedges skipped because the hedge budget was empty")
+                        .tags("client", client, "operation", operation)
+                        .register(meterRegistry));
+    }
+
+    private record Attempt<T>(Optional<T> value, boolean hedge) {
+    }
+
+    private final class Meters {
+
+        private final Timer latency;
+        private final Timer attemptLatency;
+        private final Counter hedges;
+        private final Counter wins;
+        private final Counter budgetExhausted;
+
+        private Meters(Timer latency, Timer attemptLatency, Counter hedges, Counter wins, Counter budgetExhausted) {
+            this.latency = latency;
+            this.attemptLatency = attemptLatency;
+            this.hedges = hedges;
+            this.wins = wins;
+            this.budgetExhausted = budgetExhausted;
+        }
+
+        private Duration hedgeDelay() {
+            HistogramSnapshot snapshot = attemptLatency.takeSnapshot();
+            if (snapshot.count() < MIN_SAMPLES) {
+                return maxDelay;
+            }
+
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == delayPercentile) {
+                    Duration delay = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                    return delay.compareTo(minDelay) < 0 ? minDelay : delay.compareTo(maxDelay) > 0 ? maxDelay : delay;
+                }
+            }
+            return maxDelay;
+        }
+    }
+}
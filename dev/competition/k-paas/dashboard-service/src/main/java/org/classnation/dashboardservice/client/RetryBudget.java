@@ -0,0 +1,75 @@
+package org.classnation.dashboardservice.client;
+
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import org.classnation.dashboardservice.exception.ForbiddenException;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caps Resilience4j retries of one downstream at {@code ratio} of its primary calls.
+ * <p>
+ * Every exchange deposits into a {@link TokenBudget}. {@link #allowsRetry} is the retry predicate and only checks
+ * the balance, since Resilience4j also consults it on the final attempt when no retry follows; the token is spent
+ * once a retry is actually scheduled, through the listener {@link #attachTo} adds to the retry instance. Retries are
+ * exchanges too, so each one costs {@code 1 + ratio}. Calls shed by the concurrency limiter and 401/403 answers are
+ * never retried.
+ */
+public class RetryBudget implements ExchangeFilterFunction {
+
+    private final boolean enabled;
+    private final TokenBudget budget;
+    private final Counter exhausted;
+
+    public RetryBudget(String client, ExternalServiceProperties.Budget retryBudget, MeterRegistry meterRegistry) {
+        this.enabled = retryBudget.isEnabled();
+        this.budget = new TokenBudget(retryBudget.getRatio(), retryBudget.getBurst());
+        this.exhausted = Counter.builder("retry.budget.exhausted")
+                .description("Failed attempts refused a retry because the retry budget was empty")
+                .tag("client", client)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            budget.deposit();
+            return next.exchange(request);
+        });
+    }
+
+    public boolean allowsRetry(Throwable failure) {
+        // Shed calls never reached the downstream, and a rejected token stays rejected however often it is retried
+        if (ConcurrencyLimitRejectionPredicate.isRejection(failure)
+                || failure instanceof UnauthorizedException || failure instanceof ForbiddenException) {
+            return false;
+        }
+        if (!enabled || budget.covers(retryCost())) {
+            return true;
+        }
+
+        exhausted.increment();
+        return false;
+    }
+
+    /**
+     * Charges the budget whenever {@code retry} schedules another attempt.
+     */
+    public void attachTo(Retry retry) {
+        retry.getEventPublisher().onRetry(event -> {
+            if (enabled) {
+                budget.withdraw(retryCost());
+            }
+        });
+    }
+
+    private double retryCost() {
+        return 1 + budget.ratio();
+    }
+}
@@ -0,0 +1,48 @@
+package org.classnation.dashboardservice.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket refilled by traffic rather than time: every request deposits {@code ratio} tokens, up to
+ * {@code burst}. Spending one token per extra request keeps the extra load at roughly {@code ratio} of the
+ * requests seen, while the burst lets a quiet downstream still get a few.
+ */
+public class TokenBudget {
+
+    private static final long SCALE = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    public TokenBudget(double ratio, int burst) {
+        this.deposit = Math.round(ratio * SCALE);
+        this.capacity = burst * SCALE;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    public void deposit() {
+        tokens.getAndUpdate(available -> Math.min(capacity, available + deposit));
+    }
+
+    public boolean tryWithdraw(double amount) {
+        long cost = Math.round(amount * SCALE);
+        return tokens.getAndUpdate(available -> available >= cost ? available - cost : available) >= cost;
+    }
+
+    public boolean covers(double amount) {
+        return tokens.get() >= Math.round(amount * SCALE);
+    }
+
+    /**
+     * Spends {@code amount} unconditionally, for callers that checked {@link #covers} earlier and can no longer
+     * back out. Concurrent spenders may overdraw the budget; the debt is repaid by later deposits.
+     */
+    public void withdraw(double amount) {
+        tokens.addAndGet(-Math.round(amount * SCALE));
+    }
+
+    public double ratio() {
+        return (double) deposit / SCALE;
+    }
+}
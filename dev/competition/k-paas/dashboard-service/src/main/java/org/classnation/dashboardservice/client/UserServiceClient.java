@@ -2,39 +2,35 @@ package org.classnation.dashboardservice.client;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
 import org.classnation.dashboardservice.exception.ExternalServiceException;
 import org.classnation.dashboardservice.exception.ForbiddenException;
 import org.classnation.dashboardservice.exception.UnauthorizedException;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class UserServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${external.user-service.url:http://localhost:8080}")
-    private String userServiceUrl;
+    private final WebClient userServiceWebClient;
 
+    @Timed(value = "downstream.calls", extraTags = {"client", "userService"}, histogram = true)
     @CircuitBreaker(name = "userService", fallbackMethod = "verifyTokenFallback")
     @Retry(name = "userService")
     public VerifyTokenResponse verifyToken(String token) {
         log.info("Verifying token with user-service");
 
         try {
-            return webClientBuilder.build()
+            return userServiceWebClient
                     .post()
-                    .uri(userServiceUrl + "/api/auth/verify")
+                    .uri("/api/auth/verify")
                     .header("Authorization", "Bearer " + token)
                     .retrieve()
                     .onStatus(
@@ -50,7 +46,6 @@ public class UserServiceClient {
                             response -> Mono.error(new ExternalServiceException("User service error"))
                     )
                     .bodyToMono(VerifyTokenResponse.class)
-                    .timeout(Duration.ofMillis(3000))
                     .block();
         } catch (UnauthorizedException | ForbiddenException e) {
             throw e;
@@ -61,6 +56,10 @@ public class UserServiceClient {
     }
 
     private VerifyTokenResponse verifyTokenFallback(String token, Exception ex) {
+        // user-service answered; a rejected token is not an outage and the caller caches the rejection
+        if (ex instanceof UnauthorizedException || ex instanceof ForbiddenException) {
+            throw (RuntimeException) ex;
+        }
         log.error("Circuit breaker opened for user-service: {}", ex.getMessage());
         throw new ExternalServiceException("User service is currently unavailable", ex);
     }
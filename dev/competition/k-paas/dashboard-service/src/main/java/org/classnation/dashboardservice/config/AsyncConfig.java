@@ -0,0 +1,13 @@
+package org.classnation.dashboardservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables {@code @Async}. The executor is Spring Boot's auto-configured {@code applicationTaskExecutor},
+ * which runs on virtual threads when {@code spring.threads.virtual.enabled=true}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,68 @@
+package org.classnation.dashboardservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.classnation.dashboardservice.entity.CacheRegions;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for {@code Dog} and {@code Human}, keyed by id with a natural-id region mapping
+ * dog_uuid/human_uuid to the id. Regions are bounded Caffeine caches behind JCache.
+ * <p>
+ * Hibernate keeps the regions in step with writes made through the persistence context; the JDBC writes evict the
+ * rows they touched. Hit ratios are published as {@code hibernate.second.level.cache.requests} and
+ * {@code hibernate.cache.natural.id.requests}.
+ * <p>
+ * The regions are local to each instance and nothing invalidates them across instances: with several instances a
+ * dog adopted through one can still read as available on another for up to {@code ttl}. Writes stay correct, since
+ * claims are conditional updates and entity saves are versioned, but reads and ETags may lag. Deployments running
+ * more than one instance that cannot accept that must set {@code dashboard.entity-cache.enabled=false}.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(
+            @Value("${dashboard.entity-cache.max-size:10000}") long maxSize,
+            @Value("${dashboard.entity-cache.ttl:1m}") Duration ttl) {
+        // A private manager per context, so entities never leak between application contexts in one JVM
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("dashboard-entity-cache-" + UUID.randomUUID()),
+                        EntityCacheConfig.class.getClassLoader());
+
+        for (String region : CacheRegions.ALL) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(
+            CacheManager entityCacheManager,
+            @Value("${dashboard.entity-cache.enabled:true}") boolean enabled) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            if (enabled) {
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+                // Every region is created above; a missing one is a mapping mistake, not something to default
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            }
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package org.classnation.dashboardservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "external")
+@Getter
+@Setter
+public class ExternalServiceProperties {
+
+    private Downstream userService = new Downstream("http://localhost:8080");
+
+    private Downstream reportService = new Downstream("http://localhost:1112");
+
+    @Getter
+    @Setter
+    public static class Downstream {
+
+        private String url;
+
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        private Duration responseTimeout = Duration.ofSeconds(3);
+
+        private Pool pool = new Pool();
+
+        private Hedging hedging = new Hedging();
+
+        private Limiter limiter = new Limiter();
+
+        private Budget retryBudget = new Budget();
+
+        public Downstream() {
+        }
+
+        public Downstream(String url) {
+            this.url = url;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private int maxConnections = 100;
+
+        /**
+         * Requests allowed to wait for a connection once the pool is exhausted; beyond this they fail fast.
+         */
+        private int pendingAcquireMaxCount = 500;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+        private boolean keepAlive = true;
+
+        private boolean http2 = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Hedging {
+
+        private boolean enabled = false;
+
+        /**
+         * Latency percentile of recent attempts after which a second request is sent, clamped to min/max delay.
+         */
+        private double delayPercentile = 0.95;
+
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /**
+         * Also the delay used until enough attempts have been observed to estimate the percentile.
+         */
+        private Duration maxDelay = Duration.ofSeconds(1);
+
+        /**
+         * Hedges earned per request across all hedged operations; 0.1 caps the extra load at about 10%.
+         */
+        private double budgetRatio = 0.1;
+
+        /**
+         * Unused hedges that may accumulate during quiet periods.
+         */
+        private int budgetBurst = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Limiter {
+
+        private boolean enabled = true;
+
+        private int initialLimit = 50;
+
+        private int minLimit = 10;
+
+        /**
+         * Should not exceed the connection pool's max-connections.
+         */
+        private int maxLimit = 100;
+
+        /**
+         * Factor applied to the limit on an overload signal (5xx, 429, connection error or slow answer).
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Answers slower than this count as overload signals.
+         */
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+
+        /**
+         * Calls allowed to wait for a permit once the limit is reached; beyond this they are rejected at once.
+         */
+        private int maxQueue = 100;
+
+        private Duration maxWait = Duration.ofMillis(500);
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        private boolean enabled = true;
+
+        /**
+         * Retries allowed per primary call, e.g. 0.2 keeps retries under 20% of primary traffic.
+         */
+        private double ratio = 0.2;
+
+        /**
+         * Retries available during quiet periods regardless of the ratio.
+         */
+        private int burst = 10;
+    }
+}
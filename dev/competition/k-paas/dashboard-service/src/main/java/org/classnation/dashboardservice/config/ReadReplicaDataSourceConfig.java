@@ -0,0 +1,88 @@
+package org.classnation.dashboardservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.classnation.dashboardservice.datasource.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only transactions to the replicas. The
+ * primary keeps its {@code spring.datasource.*} settings; each replica gets its own read-only Hikari pool.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "dashboard.read-replicas", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({ReadReplicaProperties.class, DataSourceProperties.class})
+public class ReadReplicaDataSourceConfig {
+
+    public ReadReplicaDataSourceConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        // A request-scoped session would hold its first connection, replica or primary, for the whole request
+        // and would keep skipping second-level cache puts after a replica read
+        if (openInView) {
+            throw new IllegalStateException("dashboard.read-replicas.enabled=true requires "
+                    + "spring.jpa.open-in-view=false");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ReadReplicaProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        List<ReadReplicaProperties.Replica> replicas = properties.getReplicas();
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaProperties.Replica replica = replicas.get(i);
+            if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+                throw new IllegalStateException("dashboard.read-replicas.replicas[" + i + "].url is required");
+            }
+
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            pool.setUsername(replica.getUsername() != null
+                    ? replica.getUsername() : dataSourceProperties.determineUsername());
+            pool.setPassword(replica.getPassword() != null
+                    ? replica.getPassword() : dataSourceProperties.determinePassword());
+            pool.setReadOnly(true);
+            pool.setMaximumPoolSize(properties.getMaxPoolSize());
+            pool.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            // A replica that is down at startup must not stop the service; the health check picks it up later
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // Defers the physical connection until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
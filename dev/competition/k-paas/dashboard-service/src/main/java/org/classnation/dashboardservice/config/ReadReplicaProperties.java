@@ -0,0 +1,58 @@
+package org.classnation.dashboardservice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "dashboard.read-replicas")
+@Getter
+@Setter
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Pool size of each replica; the primary keeps its {@code spring.datasource.hikari} settings.
+     */
+    private int maxPoolSize = 10;
+
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /**
+     * A replica further behind than this is taken out of rotation. Zero skips the {@code SHOW REPLICA STATUS}
+     * check, e.g. for databases that do not support it.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(10);
+
+    /**
+     * After an admin's write commits, their read-only transactions go to the primary for this long. Zero disables.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private long readYourWritesMaxAdmins = 10000;
+
+    @Getter
+    @Setter
+    public static class Replica {
+
+        private String url;
+
+        /**
+         * Defaults to {@code spring.datasource.username}.
+         */
+        private String username;
+
+        /**
+         * Defaults to {@code spring.datasource.password}.
+         */
+        private String password;
+    }
+}
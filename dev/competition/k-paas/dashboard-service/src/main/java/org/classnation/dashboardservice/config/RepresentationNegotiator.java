@@ -0,0 +1,48 @@
+package org.classnation.dashboardservice.config;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.List;
+
+/**
+ * Picks the representation of a versioned response before the handler builds it, so its ETag can name the
+ * representation even on a 304, which carries no body. Handlers pin the result as the Content-Type, which keeps the
+ * message converters from choosing differently.
+ */
+@Component
+public class RepresentationNegotiator {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    // JSON first: it is the default for wildcard and missing Accept headers
+    private static final List<MediaType> REPRESENTATIONS =
+            List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, APPLICATION_SMILE);
+
+    private final ContentNegotiationManager contentNegotiationManager;
+
+    public RepresentationNegotiator(ContentNegotiationManager contentNegotiationManager) {
+        this.contentNegotiationManager = contentNegotiationManager;
+    }
+
+    /**
+     * The representation the client prefers, by quality and then specificity of its Accept header.
+     */
+    public MediaType negotiate(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        // Already sorted by quality and specificity
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+            if (accepted.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType representation : REPRESENTATIONS) {
+                if (accepted.isCompatibleWith(representation)) {
+                    return representation;
+                }
+            }
+        }
+        throw new HttpMediaTypeNotAcceptableException(REPRESENTATIONS);
+    }
+}
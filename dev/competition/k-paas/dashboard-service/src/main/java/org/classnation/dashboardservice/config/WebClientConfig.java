@@ -1,14 +1,176 @@
 package org.classnation.dashboardservice.config;
 
+import io.github.resilience4j.common.retry.configuration.RetryConfigCustomizer;
+import io.github.resilience4j.core.registry.EntryAddedEvent;
+import io.github.resilience4j.core.registry.EntryRemovedEvent;
+import io.github.resilience4j.core.registry.EntryReplacedEvent;
+import io.github.resilience4j.core.registry.RegistryEventConsumer;
+import io.github.resilience4j.retry.Retry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import org.classnation.dashboardservice.client.AdaptiveConcurrencyLimiter;
+import org.classnation.dashboardservice.client.RequestHedger;
+import org.classnation.dashboardservice.client.RetryBudget;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Map;
+import java.util.function.Predicate;
 
 @Configuration
+@EnableConfigurationProperties(ExternalServiceProperties.class)
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider userServiceConnectionProvider(ExternalServiceProperties properties) {
+        return connectionProvider("userService", properties.getUserService().getPool());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider reportServiceConnectionProvider(ExternalServiceProperties properties) {
+        return connectionProvider("reportService", properties.getReportService().getPool());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter userServiceConcurrencyLimiter(ExternalServiceProperties properties,
+                                                                    MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter("userService", properties.getUserService().getLimiter(), meterRegistry);
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter reportServiceConcurrencyLimiter(ExternalServiceProperties properties,
+                                                                      MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter("reportService", properties.getReportService().getLimiter(),
+                meterRegistry);
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public RetryBudget userServiceRetryBudget(ExternalServiceProperties properties, MeterRegistry meterRegistry) {
+        return new RetryBudget("userService", properties.getUserService().getRetryBudget(), meterRegistry);
+    }
+
+    @Bean
+    public RetryBudget reportServiceRetryBudget(ExternalServiceProperties properties, MeterRegistry meterRegistry) {
+        return new RetryBudget("reportService", properties.getReportService().getRetryBudget(), meterRegistry);
+    }
+
+    // The budgets decide whether the userService/reportService retry instances may retry at all
+    @Bean
+    @SuppressWarnings("unchecked")
+    public RetryConfigCustomizer userServiceRetryBudgetCustomizer(RetryBudget userServiceRetryBudget) {
+        return RetryConfigCustomizer.of("userService",
+                builder -> builder.retryOnException((Predicate<Throwable>) userServiceRetryBudget::allowsRetry));
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public RetryConfigCustomizer reportServiceRetryBudgetCustomizer(RetryBudget reportServiceRetryBudget) {
+        return RetryConfigCustomizer.of("reportService",
+                builder -> builder.retryOnException((Predicate<Throwable>) reportServiceRetryBudget::allowsRetry));
+    }
+
+    // ...and are charged only when one of those instances actually schedules a retry
+    @Bean
+    public RegistryEventConsumer<Retry> retryBudgetCharger(RetryBudget userServiceRetryBudget,
+                                                          RetryBudget reportServiceRetryBudget) {
+        Map<String, RetryBudget> budgets = Map.of(
+                "userService", userServiceRetryBudget,
+                "reportService", reportServiceRetryBudget);
+
+        return new RegistryEventConsumer<>() {
+            @Override
+            public void onEntryAddedEvent(EntryAddedEvent<Retry> event) {
+                attach(event.getAddedEntry());
+            }
+
+            @Override
+            public void onEntryRemovedEvent(EntryRemovedEvent<Retry> event) {
+            }
+
+            @Override
+            public void onEntryReplacedEvent(EntryReplacedEvent<Retry> event) {
+                attach(event.getNewEntry());
+            }
+
+            private void attach(Retry retry) {
+                RetryBudget budget = budgets.get(retry.getName());
+                if (budget != null) {
+                    budget.attachTo(retry);
+                }
+            }
+        };
+    }
+
+    @Bean
+    public WebClient userServiceWebClient(WebClient.Builder webClientBuilder,
+                                          ConnectionProvider userServiceConnectionProvider,
+                                          AdaptiveConcurrencyLimiter userServiceConcurrencyLimiter,
+                                          RetryBudget userServiceRetryBudget,
+                                          ExternalServiceProperties properties) {
+        return webClient(webClientBuilder, userServiceConnectionProvider, properties.getUserService())
+                .filter(userServiceConcurrencyLimiter)
+                .filter(userServiceRetryBudget)
+                .build();
+    }
+
+    @Bean
+    public WebClient reportServiceWebClient(WebClient.Builder webClientBuilder,
+                                            ConnectionProvider reportServiceConnectionProvider,
+                                            AdaptiveConcurrencyLimiter reportServiceConcurrencyLimiter,
+                                            RetryBudget reportServiceRetryBudget,
+                                            ExternalServiceProperties properties) {
+        return webClient(webClientBuilder, reportServiceConnectionProvider, properties.getReportService())
+                .filter(reportServiceConcurrencyLimiter)
+                .filter(reportServiceRetryBudget)
+                .build();
+    }
+
+    @Bean
+    public RequestHedger reportServiceRequestHedger(ExternalServiceProperties properties,
+                                                    MeterRegistry meterRegistry) {
+        return new RequestHedger("reportService", properties.getReportService().getHedging(), meterRegistry);
+    }
+
+    private ConnectionProvider connectionProvider(String name, ExternalServiceProperties.Pool pool) {
+        // metrics(true) publishes reactor.netty.connection.provider.* gauges (active, idle, pending)
+        // and the pending acquire timer, tagged with this provider name
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true)
+                .build();
+    }
+
+    private WebClient.Builder webClient(WebClient.Builder webClientBuilder, ConnectionProvider connectionProvider,
+                                        ExternalServiceProperties.Downstream downstream) {
+        ExternalServiceProperties.Pool pool = downstream.getPool();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) downstream.getConnectTimeout().toMillis())
+                .responseTimeout(downstream.getResponseTimeout())
+                .keepAlive(pool.isKeepAlive());
+
+        if (pool.isHttp2()) {
+            httpClient = downstream.getUrl().startsWith("https")
+                    ? httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    : httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        // Boot's builder records http.client.requests tagged by URI template; clone it so it is not mutated per
+        // downstream. Filters added by the caller run in order, so the limiter admits an exchange before the
+        // retry budget counts it.
+        return webClientBuilder.clone()
+                .baseUrl(downstream.getUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
     }
 }
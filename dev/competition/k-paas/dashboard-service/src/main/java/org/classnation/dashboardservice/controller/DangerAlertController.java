@@ -0,0 +1,34 @@
+package org.classnation.dashboardservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.service.DangerAlertBroadcaster;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Danger Alerts", description = "Push channel for new danger reports of matched seniors (ADMIN only)")
+@RestController
+@RequestMapping("/api/dashboard/danger-alerts")
+@RequiredArgsConstructor
+@Slf4j
+public class DangerAlertController {
+
+    private final DangerAlertBroadcaster dangerAlertBroadcaster;
+
+    @Operation(summary = "Stream danger alerts", description = "Server-Sent Events stream of new danger reports; reconnect with Last-Event-ID to resume")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDangerAlerts(
+            @Parameter(description = "Id of the last event received") @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        log.info("GET /api/dashboard/danger-alerts/stream - Last-Event-ID={}", lastEventId);
+
+        return dangerAlertBroadcaster.subscribe(lastEventId);
+    }
+}
@@ -6,10 +6,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.config.RepresentationNegotiator;
 import org.classnation.dashboardservice.dto.*;
 import org.classnation.dashboardservice.service.DogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.time.LocalDateTime;
 
 @Tag(name = "Dog Management", description = "Dog management APIs (ADMIN only)")
 @RestController
@@ -19,28 +28,71 @@ import org.springframework.web.bind.annotation.*;
 public class DogController {
 
     private final DogService dogService;
+    private final RepresentationNegotiator representationNegotiator;
 
     @Operation(summary = "Upsert dog", description = "Create or update dog information")
     @PutMapping("/{dog_uuid}")
     public ResponseEntity<ApiResponse<DogResponse>> upsertDog(
             @Parameter(description = "UUID of the dog") @PathVariable("dog_uuid") String dogUuid,
-            @Valid @RequestBody DogUpsertRequest request) {
+            @Parameter(description = "ETag from a previous read; the update fails with 412 if the dog changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody DogUpsertRequest request,
+            NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
 
         log.info("PUT /api/dashboard/dogs/{} - Upsert dog", dogUuid);
 
-        DogResponse response = dogService.upsertDog(dogUuid, request);
+        MediaType representation = representationNegotiator.negotiate(webRequest);
+        Versioned<DogResponse> response = dogService.upsertDog(dogUuid, request, ifMatch, representation);
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(response.etag())
+                .body(ApiResponse.success(response.body()));
+    }
+
+    @Operation(summary = "Bulk upsert dogs", description = "Create or update up to 5000 dogs in one request")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkUpsertResponse>> bulkUpsertDogs(
+            @Valid @RequestBody DogBulkUpsertRequest request) {
+
+        log.info("POST /api/dashboard/dogs/bulk - {} dogs", request.getDogs().size());
+
+        BulkUpsertResponse response = dogService.bulkUpsertDogs(request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "Get dog", description = "Retrieve dog information by UUID")
+    @Operation(summary = "List dogs", description = "List dogs newest first using cursor pagination, optionally filtered by status and date range")
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<DogResponse>>> listDogs(
+            @Parameter(description = "Filter by adoption status") @RequestParam(value = "adopted", required = false) Boolean adopted,
+            @Parameter(description = "Inclusive lower bound (ISO-8601)") @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Inclusive upper bound (ISO-8601)") @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+
+        log.info("GET /api/dashboard/dogs?adopted={}&from={}&to={}&size={}", adopted, from, to, size);
+
+        CursorPageResponse<DogResponse> response = dogService.listDogs(adopted, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "Get dog", description = "Retrieve dog information by UUID. Answers If-None-Match with 304 when the dog is unchanged")
     @GetMapping("/{dog_uuid}")
     public ResponseEntity<ApiResponse<DogResponse>> getDog(
-            @Parameter(description = "UUID of the dog") @PathVariable("dog_uuid") String dogUuid) {
+            @Parameter(description = "UUID of the dog") @PathVariable("dog_uuid") String dogUuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
 
         log.info("GET /api/dashboard/dogs/{}", dogUuid);
 
-        DogResponse response = dogService.getDog(dogUuid);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        MediaType representation = representationNegotiator.negotiate(webRequest);
+        Versioned<DogResponse> response = dogService.getDog(dogUuid, ifNoneMatch, representation);
+        if (response.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(response.etag())
+                .body(ApiResponse.success(response.body()));
     }
 
     @Operation(summary = "Check adoption status", description = "Check if a dog is adopted")
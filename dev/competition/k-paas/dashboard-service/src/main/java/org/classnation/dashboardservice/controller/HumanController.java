@@ -6,10 +6,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.config.RepresentationNegotiator;
 import org.classnation.dashboardservice.dto.*;
 import org.classnation.dashboardservice.service.HumanService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.time.LocalDateTime;
 
 @Tag(name = "Human Management", description = "Senior/Human management APIs (ADMIN only)")
 @RestController
@@ -19,19 +28,73 @@ import org.springframework.web.bind.annotation.*;
 public class HumanController {
 
     private final HumanService humanService;
+    private final RepresentationNegotiator representationNegotiator;
 
     @Operation(summary = "Upsert human", description = "Create or update senior/human information")
     @PutMapping("/{human_uuid}")
     public ResponseEntity<ApiResponse<HumanResponse>> upsertHuman(
             @Parameter(description = "UUID of the human") @PathVariable("human_uuid") String humanUuid,
-            @Valid @RequestBody HumanUpsertRequest request) {
+            @Parameter(description = "ETag from a previous read; the update fails with 412 if the human changed since")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody HumanUpsertRequest request,
+            NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
 
         log.info("PUT /api/dashboard/humans/{} - Upsert human", humanUuid);
 
-        HumanResponse response = humanService.upsertHuman(humanUuid, request);
+        MediaType representation = representationNegotiator.negotiate(webRequest);
+        Versioned<HumanResponse> response = humanService.upsertHuman(humanUuid, request, ifMatch, representation);
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(response.etag())
+                .body(ApiResponse.success(response.body()));
+    }
+
+    @Operation(summary = "Bulk upsert humans", description = "Create or update up to 5000 seniors/humans in one request")
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<BulkUpsertResponse>> bulkUpsertHumans(
+            @Valid @RequestBody HumanBulkUpsertRequest request) {
+
+        log.info("POST /api/dashboard/humans/bulk - {} humans", request.getHumans().size());
+
+        BulkUpsertResponse response = humanService.bulkUpsertHumans(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "List humans", description = "List humans newest first using cursor pagination, optionally filtered by status and date range")
+    @GetMapping
+    public ResponseEntity<ApiResponse<CursorPageResponse<HumanResponse>>> listHumans(
+            @Parameter(description = "Filter by match status") @RequestParam(value = "matched", required = false) Boolean matched,
+            @Parameter(description = "Inclusive lower bound (ISO-8601)") @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Inclusive upper bound (ISO-8601)") @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+
+        log.info("GET /api/dashboard/humans?matched={}&from={}&to={}&size={}", matched, from, to, size);
+
+        CursorPageResponse<HumanResponse> response = humanService.listHumans(matched, from, to, cursor, size);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @Operation(summary = "Get human", description = "Retrieve human information by UUID. Answers If-None-Match with 304 when the human is unchanged")
+    @GetMapping("/{human_uuid}")
+    public ResponseEntity<ApiResponse<HumanResponse>> getHuman(
+            @Parameter(description = "UUID of the human") @PathVariable("human_uuid") String humanUuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            NativeWebRequest webRequest) throws HttpMediaTypeNotAcceptableException {
+
+        log.info("GET /api/dashboard/humans/{}", humanUuid);
+
+        MediaType representation = representationNegotiator.negotiate(webRequest);
+        Versioned<HumanResponse> response = humanService.getHuman(humanUuid, ifNoneMatch, representation);
+        if (response.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(response.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(representation)
+                .eTag(response.etag())
+                .body(ApiResponse.success(response.body()));
+    }
+
     @Operation(summary = "Check initial consultation status", description = "Check if a senior has completed initial consultation")
     @GetMapping("/{human_uuid}/initial-consulted")
     public ResponseEntity<ApiResponse<InitialConsultedResponse>> checkInitialConsulted(
@@ -88,4 +151,15 @@ public class HumanController {
         LatestDangerResponse response = humanService.getLatestDanger(humanUuid);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @Operation(summary = "Get latest danger reports in batch", description = "Get the latest danger report for up to 1000 seniors; failures are reported per item")
+    @PostMapping("/danger/latest/batch")
+    public ResponseEntity<ApiResponse<LatestDangerBatchResponse>> getLatestDangerBatch(
+            @Valid @RequestBody LatestDangerBatchRequest request) {
+
+        log.info("POST /api/dashboard/humans/danger/latest/batch - {} humans", request.getHumanUuids().size());
+
+        LatestDangerBatchResponse response = humanService.getLatestDangerBatch(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
 }
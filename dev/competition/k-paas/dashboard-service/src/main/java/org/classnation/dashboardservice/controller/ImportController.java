@@ -0,0 +1,63 @@
+package org.classnation.dashboardservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.ApiResponse;
+import org.classnation.dashboardservice.dto.ImportFormat;
+import org.classnation.dashboardservice.dto.ImportProgressResponse;
+import org.classnation.dashboardservice.dto.ImportTarget;
+import org.classnation.dashboardservice.service.ImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "Import", description = "Bulk NDJSON/CSV import for shelter onboarding (ADMIN only)")
+@RestController
+@RequestMapping("/api/dashboard/imports")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final ImportService importService;
+
+    @Operation(summary = "Import dogs", description = "Stream an NDJSON or CSV file of dogs; returns an import id to poll")
+    @PostMapping(value = "/dogs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportProgressResponse>> importDogs(
+            @Parameter(description = "NDJSON or CSV file") @RequestPart("file") MultipartFile file,
+            @Parameter(description = "File format; detected from content type or extension when omitted")
+            @RequestParam(value = "format", required = false) ImportFormat format) {
+
+        log.info("POST /api/dashboard/imports/dogs - {}", file.getOriginalFilename());
+
+        ImportProgressResponse response = importService.startImport(ImportTarget.DOGS, file, format);
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "Import started"));
+    }
+
+    @Operation(summary = "Import humans", description = "Stream an NDJSON or CSV file of seniors/humans; returns an import id to poll")
+    @PostMapping(value = "/humans", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ImportProgressResponse>> importHumans(
+            @Parameter(description = "NDJSON or CSV file") @RequestPart("file") MultipartFile file,
+            @Parameter(description = "File format; detected from content type or extension when omitted")
+            @RequestParam(value = "format", required = false) ImportFormat format) {
+
+        log.info("POST /api/dashboard/imports/humans - {}", file.getOriginalFilename());
+
+        ImportProgressResponse response = importService.startImport(ImportTarget.HUMANS, file, format);
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "Import started"));
+    }
+
+    @Operation(summary = "Get import progress", description = "Row counts and per-row errors of a running or finished import")
+    @GetMapping("/{import_id}")
+    public ResponseEntity<ApiResponse<ImportProgressResponse>> getImportProgress(
+            @Parameter(description = "Import id returned when the import was started") @PathVariable("import_id") String importId) {
+
+        log.info("GET /api/dashboard/imports/{}", importId);
+
+        ImportProgressResponse response = importService.getProgress(importId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -8,9 +8,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.classnation.dashboardservice.dto.*;
 import org.classnation.dashboardservice.service.MatchingService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "Matching Management", description = "Adoption matching APIs (ADMIN only)")
 @RestController
 @RequestMapping("/api/dashboard")
@@ -32,7 +35,33 @@ public class MatchingController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
-    @Operation(summary = "Confirm matching", description = "Confirm an adoption match between a senior and a dog")
+    @Operation(summary = "List matchings", description = "List matchings newest first using cursor pagination, optionally filtered by status and date range")
+    @GetMapping("/matchings")
+    public ResponseEntity<ApiResponse<CursorPageResponse<MatchingResponse>>> listMatchings(
+            @Parameter(description = "Filter by danger flag") @RequestParam(value = "danger", required = false) Boolean danger,
+            @Parameter(description = "Inclusive lower bound (ISO-8601)") @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Inclusive upper bound (ISO-8601)") @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Page size (1-100)") @RequestParam(value = "size", required = false, defaultValue = "20") Integer size) {
+
+        log.info("GET /api/dashboard/matchings?danger={}&from={}&to={}&size={}", danger, from, to, size);
+
+        CursorPageResponse<MatchingResponse> response = matchingService.listMatchings(danger, from, to, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "Get matching", description = "Get a matching and its confirmation status (PENDING, CONFIRMED or FAILED)")
+    @GetMapping("/matchings/{matching_id}")
+    public ResponseEntity<ApiResponse<MatchingResponse>> getMatching(
+            @Parameter(description = "ID of the matching") @PathVariable("matching_id") Long matchingId) {
+
+        log.info("GET /api/dashboard/matchings/{}", matchingId);
+
+        MatchingResponse response = matchingService.getMatching(matchingId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    @Operation(summary = "Confirm matching", description = "Reserve the dog and senior and accept the match as PENDING; report-service confirms it asynchronously, poll GET /matchings/{matching_id} for the outcome")
     @PostMapping("/matchings/confirm")
     public ResponseEntity<ApiResponse<ConfirmMatchingResponse>> confirmMatching(
             @Valid @RequestBody ConfirmMatchingRequest request) {
@@ -41,6 +70,6 @@ public class MatchingController {
                 request.getHumanUuid(), request.getDogUuid());
 
         ConfirmMatchingResponse response = matchingService.confirmMatching(request);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "Matching pending confirmation"));
     }
 }
@@ -0,0 +1,33 @@
+package org.classnation.dashboardservice.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.ApiResponse;
+import org.classnation.dashboardservice.dto.DashboardSummaryResponse;
+import org.classnation.dashboardservice.service.DashboardSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Summary", description = "Dashboard home page totals (ADMIN only)")
+@RestController
+@RequestMapping("/api/dashboard/summary")
+@RequiredArgsConstructor
+@Slf4j
+public class SummaryController {
+
+    private final DashboardSummaryService dashboardSummaryService;
+
+    @Operation(summary = "Get dashboard summary", description = "Dog, senior and matching totals from incrementally maintained counters")
+    @GetMapping
+    public ResponseEntity<ApiResponse<DashboardSummaryResponse>> getSummary() {
+
+        log.info("GET /api/dashboard/summary");
+
+        DashboardSummaryResponse response = dashboardSummaryService.getSummary();
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
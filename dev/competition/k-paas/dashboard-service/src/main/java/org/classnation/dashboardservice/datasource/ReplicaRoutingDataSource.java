@@ -0,0 +1,241 @@
+package org.classnation.dashboardservice.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.classnation.dashboardservice.config.ReadReplicaProperties;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to a healthy replica, round robin, and every other connection to
+ * the primary. Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the
+ * read-only flag of a transaction is only set after the transaction manager asked for its connection.
+ * <p>
+ * A replica leaves rotation when a connection attempt or the periodic health check fails, or when it lags more
+ * than {@code max-replication-lag}; reads fall back to the primary while no replica is usable. After an admin's
+ * write commits, their reads stay on the primary for {@code read-your-writes-window}. Entities read from a replica
+ * are never put into the second-level cache, so a lagging replica cannot overwrite fresher cached rows.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int healthCheckTimeoutSeconds;
+    private final Duration maxReplicationLag;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter writes;
+    private final Counter readYourWrites;
+    private final Counter fallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                    ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicaPools.stream().map(pool -> new Replica(pool, meterRegistry)).toList();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+        this.maxReplicationLag = properties.getMaxReplicationLag();
+        this.recentWriters = properties.getReadYourWritesWindow().isPositive()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getReadYourWritesMaxAdmins())
+                        .expireAfterWrite(properties.getReadYourWritesWindow())
+                        .build()
+                : null;
+
+        this.writes = routed(meterRegistry, "primary", "write");
+        this.readYourWrites = routed(meterRegistry, "primary", "read-your-writes");
+        this.fallbacks = routed(meterRegistry, "primary", "no-healthy-replica");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        checkHealth();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWrite();
+            writes.increment();
+            return primary.getConnection();
+        }
+
+        if (recentWriters != null) {
+            String admin = currentAdmin();
+            if (admin != null && recentWriters.getIfPresent(admin) != null) {
+                readYourWrites.increment();
+                return primary.getConnection();
+            }
+        }
+
+        int start = replicas.isEmpty() ? 0 : Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                try {
+                    Connection connection = replica.pool.getConnection();
+                    replica.reads.increment();
+                    skipCachePuts();
+                    return connection;
+                } catch (SQLException e) {
+                    replica.markDown("connection failed: " + e.getMessage());
+                }
+            }
+        }
+
+        fallbacks.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.read-replicas.health-check-interval:5000}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            String problem = probe(replica);
+            if (problem == null) {
+                replica.markUp();
+            } else {
+                replica.markDown(problem);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private String probe(Replica replica) {
+        try (Connection connection = replica.pool.getConnection()) {
+            if (!connection.isValid(healthCheckTimeoutSeconds)) {
+                return "connection not valid";
+            }
+            if (maxReplicationLag.isZero()) {
+                return null;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(healthCheckTimeoutSeconds);
+                try (ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    // No row: not replicating through binlog (e.g. a managed reader endpoint), lag is not ours to see
+                    if (!status.next()) {
+                        return null;
+                    }
+                    long lagSeconds = status.getLong("Seconds_Behind_Source");
+                    if (status.wasNull()) {
+                        return "replication stopped";
+                    }
+                    if (lagSeconds > maxReplicationLag.toSeconds()) {
+                        return "replication lag " + lagSeconds + "s";
+                    }
+                    return null;
+                }
+            }
+        } catch (SQLException e) {
+            return "health check failed: " + e.getMessage();
+        }
+    }
+
+    private void recordWrite() {
+        if (recentWriters == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String admin = currentAdmin();
+        if (admin == null) {
+            return;
+        }
+
+        // The window starts when the write becomes visible to replicas, i.e. at commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(admin, Boolean.TRUE);
+            }
+        });
+    }
+
+    /**
+     * Rows read from a replica may lag the primary, so the transaction's Hibernate session keeps reading the shared
+     * second-level cache but stops putting entities into it. Open-in-view is off, so the session ends with the
+     * transaction and the mode never outlives the replica connection.
+     */
+    private static void skipCachePuts() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        }
+    }
+
+    private static String currentAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static Counter routed(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing.connections")
+                .description("Connections handed out by the read-replica routing data source")
+                .tags("target", target, "reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static final class Replica {
+
+        private final HikariDataSource pool;
+        private final Counter reads;
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource pool, MeterRegistry meterRegistry) {
+            this.pool = pool;
+            this.reads = routed(meterRegistry, pool.getPoolName(), "read");
+            Gauge.builder("datasource.replica.healthy", this, replica -> replica.healthy ? 1 : 0)
+                    .description("Whether the replica is in read rotation")
+                    .tag("replica", pool.getPoolName())
+                    .register(meterRegistry);
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("Read replica {} back in rotation", pool.getPoolName());
+            }
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("Read replica {} out of rotation: {}", pool.getPoolName(), reason);
+            }
+        }
+    }
+}
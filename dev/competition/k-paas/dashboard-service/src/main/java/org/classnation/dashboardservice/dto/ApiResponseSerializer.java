@@ -0,0 +1,73 @@
+package org.classnation.dashboardservice.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Writes the {@link ApiResponse} envelope field by field with field names encoded once, instead of introspecting
+ * the bean for every response. Output matches the bean serializer: same field order, null fields left out, and
+ * {@code data}, {@code error} and {@code timestamp} written by the mapper's own serializers, so JSON, CBOR and
+ * Smile all honour the {@code spring.jackson.*} settings.
+ */
+public class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString REQUEST_ID = new SerializedString("requestId");
+
+    @SuppressWarnings("unchecked")
+    public ApiResponseSerializer() {
+        super((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> response, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(response);
+
+        if (response.getSuccess() != null) {
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(response.getSuccess());
+        }
+        if (response.getCode() != null) {
+            gen.writeFieldName(CODE);
+            gen.writeNumber(response.getCode());
+        }
+        if (response.getMessage() != null) {
+            gen.writeFieldName(MESSAGE);
+            gen.writeString(response.getMessage());
+        }
+        if (response.getData() != null) {
+            gen.writeFieldName(DATA);
+            Object data = response.getData();
+            // Looked up by runtime class; the provider caches serializers per class
+            JsonSerializer<Object> serializer = provider.findTypedValueSerializer(data.getClass(), true, null);
+            serializer.serialize(data, gen, provider);
+        }
+        if (response.getError() != null) {
+            gen.writeFieldName(ERROR);
+            provider.findTypedValueSerializer(ErrorDetail.class, true, null)
+                    .serialize(response.getError(), gen, provider);
+        }
+        if (response.getTimestamp() != null) {
+            gen.writeFieldName(TIMESTAMP);
+            provider.findTypedValueSerializer(LocalDateTime.class, true, null)
+                    .serialize(response.getTimestamp(), gen, provider);
+        }
+        if (response.getRequestId() != null) {
+            gen.writeFieldName(REQUEST_ID);
+            gen.writeString(response.getRequestId());
+        }
+
+        gen.writeEndObject();
+    }
+}
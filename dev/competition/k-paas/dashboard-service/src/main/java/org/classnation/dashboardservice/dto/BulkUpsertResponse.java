@@ -0,0 +1,16 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUpsertResponse {
+    private Integer requested;
+    private Integer inserted;
+    private Integer updated;
+}
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.classnation.dashboardservice.entity.MatchingStatus;
 
 import java.time.LocalDateTime;
 
@@ -15,7 +16,9 @@ public class ConfirmMatchingResponse {
     private Long matchingId;
     private String humanUuid;
     private String dogUuid;
+    private MatchingStatus status;
     private String reportId;
     private Boolean isDanger;
+    private String failureReason;
     private LocalDateTime matchedAt;
 }
@@ -0,0 +1,20 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DangerAlertResponse {
+    private String humanUuid;
+    private String reportId;
+    private LocalDateTime reportedAt;
+    private String summary;
+    private LocalDateTime detectedAt;
+}
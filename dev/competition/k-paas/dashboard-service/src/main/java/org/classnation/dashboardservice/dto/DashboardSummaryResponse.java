@@ -0,0 +1,24 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryResponse {
+    private Long totalDogs;
+    private Long adoptedDogs;
+    private Long availableDogs;
+    private Long totalHumans;
+    private Long consultedHumans;
+    private Long matchedHumans;
+    private Long matchingsToday;
+    private Long dangerMatchings;
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,22 @@
+package org.classnation.dashboardservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DogBulkUpsertRequest {
+
+    @NotEmpty
+    @Size(max = 5000)
+    private List<@Valid DogBulkUpsertItem> dogs;
+}
@@ -0,0 +1,6 @@
+package org.classnation.dashboardservice.dto;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,28 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressResponse {
+    private String importId;
+    private ImportTarget target;
+    private ImportFormat format;
+    private ImportStatus status;
+    private Long processedRows;
+    private Long importedRows;
+    private Long failedRows;
+    private List<ImportRowError> errors;
+    private Boolean errorsTruncated;
+    private String failureReason;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.dto;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
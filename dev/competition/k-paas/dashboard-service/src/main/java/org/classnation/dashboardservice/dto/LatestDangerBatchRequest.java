@@ -0,0 +1,22 @@
+package org.classnation.dashboardservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatestDangerBatchRequest {
+
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@NotNull String> humanUuids;
+}
@@ -0,0 +1,18 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatestDangerBatchResponse {
+    private List<LatestDangerBatchItem> results;
+    private Integer succeeded;
+    private Integer failed;
+}
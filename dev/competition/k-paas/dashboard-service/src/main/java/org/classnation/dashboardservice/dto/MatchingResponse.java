@@ -0,0 +1,24 @@
+package org.classnation.dashboardservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.classnation.dashboardservice.entity.MatchingStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MatchingResponse {
+    private Long matchingId;
+    private String humanUuid;
+    private String dogUuid;
+    private MatchingStatus status;
+    private String reportId;
+    private Boolean isDanger;
+    private String failureReason;
+    private LocalDateTime matchedAt;
+}
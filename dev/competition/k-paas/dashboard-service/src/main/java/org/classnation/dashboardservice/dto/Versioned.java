@@ -0,0 +1,16 @@
+package org.classnation.dashboardservice.dto;
+
+/**
+ * A response body together with the ETag of the entity state it was built from. The body is {@code null} when the
+ * client's If-None-Match still matched, so nothing was built.
+ */
+public record Versioned<T>(T body, String etag) {
+
+    public static <T> Versioned<T> notModified(String etag) {
+        return new Versioned<>(null, etag);
+    }
+
+    public boolean isNotModified() {
+        return body == null;
+    }
+}
@@ -0,0 +1,20 @@
+package org.classnation.dashboardservice.entity;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions, created up front with bounded Caffeine caches by
+ * {@link org.classnation.dashboardservice.config.EntityCacheConfig}.
+ */
+public final class CacheRegions {
+
+    public static final String DOGS = "dogs";
+    public static final String DOG_NATURAL_IDS = "dog-natural-ids";
+    public static final String HUMANS = "humans";
+    public static final String HUMAN_NATURAL_IDS = "human-natural-ids";
+
+    public static final List<String> ALL = List.of(DOGS, DOG_NATURAL_IDS, HUMANS, HUMAN_NATURAL_IDS);
+
+    private CacheRegions() {
+    }
+}
@@ -2,25 +2,38 @@ package org.classnation.dashboardservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "dogs", indexes = {
-        @Index(name = "idx_dog_status", columnList = "is_adopted,created_at")
-})
+@Table(name = "dogs",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_dogs_dog_uuid", columnNames = "dog_uuid")
+        },
+        indexes = {
+                @Index(name = "idx_dog_status", columnList = "is_adopted,created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.DOGS)
+@NaturalIdCache(region = CacheRegions.DOG_NATURAL_IDS)
 public class Dog {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "dog_uuid", length = 36, nullable = false, unique = true)
+    @NaturalId
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "dog_uuid", columnDefinition = "BINARY(16)", nullable = false)
     private String dogUuid;
 
     @Column(name = "shelter_name", length = 100)
@@ -54,6 +67,10 @@ public class Dog {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -2,25 +2,38 @@ package org.classnation.dashboardservice.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "humans", indexes = {
-        @Index(name = "idx_human_status", columnList = "is_matched,created_at")
-})
+@Table(name = "humans",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_humans_human_uuid", columnNames = "human_uuid")
+        },
+        indexes = {
+                @Index(name = "idx_human_status", columnList = "is_matched,created_at")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.HUMANS)
+@NaturalIdCache(region = CacheRegions.HUMAN_NATURAL_IDS)
 public class Human {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "human_uuid", length = 36, nullable = false, unique = true)
+    @NaturalId
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "human_uuid", columnDefinition = "BINARY(16)", nullable = false)
     private String humanUuid;
 
     @Column(name = "name", length = 50)
@@ -60,6 +73,10 @@ public class Human {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -26,19 +26,30 @@ public class Matching {
     @Column(name = "matching_id")
     private Long matchingId;
 
-    @Column(name = "human_uuid", length = 36, nullable = false)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "human_uuid", columnDefinition = "BINARY(16)", nullable = false)
     private String humanUuid;
 
-    @Column(name = "dog_uuid", length = 36, nullable = false)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(name = "dog_uuid", columnDefinition = "BINARY(16)", nullable = false)
     private String dogUuid;
 
-    @Column(name = "report_id", length = 36, nullable = false)
+    // Filled in once report-service has confirmed the adoption
+    @Column(name = "report_id", length = 36)
     private String reportId;
 
     @Column(name = "is_danger", nullable = false)
     @Builder.Default
     private Boolean isDanger = false;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 10, nullable = false, columnDefinition = "VARCHAR(10) DEFAULT 'CONFIRMED'")
+    @Builder.Default
+    private MatchingStatus status = MatchingStatus.PENDING;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
     @Column(name = "matched_at", nullable = false)
     private LocalDateTime matchedAt;
 
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.entity;
+
+public enum OutboxEventType {
+    REGISTER_DOG,
+    REGISTER_SENIOR,
+    CONFIRM_ADOPTION
+}
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
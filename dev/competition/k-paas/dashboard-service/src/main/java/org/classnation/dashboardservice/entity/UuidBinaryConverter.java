@@ -0,0 +1,50 @@
+package org.classnation.dashboardservice.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.classnation.dashboardservice.validation.UuidValidator;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Stores a textual UUID as BINARY(16) in big-endian (most significant bits first) order, the same layout as
+ * MySQL's {@code UUID_TO_BIN(uuid)} without the swap flag. Reads always return the canonical lower-case form.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String uuid) {
+        return toBytes(uuid);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return fromBytes(bytes);
+    }
+
+    public static byte[] toBytes(String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+
+        UUID value = UuidValidator.parse(uuid);
+        return ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Expected 16 bytes for a binary UUID but got " + bytes.length);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+}
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.event;
+
+/**
+ * Published when a dog's adoption status changes.
+ */
+public record DogAdoptionStatusChangedEvent(String dogUuid, boolean adopted) {
+}
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.event;
+
+/**
+ * Published once report-service has accepted a dog registration, so its profile now takes part in matching.
+ */
+public record DogRegisteredEvent(String dogUuid) {
+}
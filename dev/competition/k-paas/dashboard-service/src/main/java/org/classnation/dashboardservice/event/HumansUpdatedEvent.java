@@ -0,0 +1,13 @@
+package org.classnation.dashboardservice.event;
+
+import java.util.Set;
+
+/**
+ * Published when human profiles change, either in the dashboard database or in report-service.
+ */
+public record HumansUpdatedEvent(Set<String> humanUuids) {
+
+    public static HumansUpdatedEvent of(String humanUuid) {
+        return new HumansUpdatedEvent(Set.of(humanUuid));
+    }
+}
@@ -0,0 +1,42 @@
+package org.classnation.dashboardservice.event;
+
+/**
+ * Increments to the dashboard summary counters caused by a committed write.
+ */
+public record SummaryDeltaEvent(
+        long dogs,
+        long adoptedDogs,
+        long humans,
+        long consultedHumans,
+        long matchedHumans,
+        long matchings,
+        long dangerMatchings) {
+
+    public static SummaryDeltaEvent dogsCreated(long count) {
+        return new SummaryDeltaEvent(count, 0, 0, 0, 0, 0, 0);
+    }
+
+    public static SummaryDeltaEvent adoptionChanged(boolean adopted) {
+        return new SummaryDeltaEvent(0, adopted ? 1 : -1, 0, 0, 0, 0, 0);
+    }
+
+    public static SummaryDeltaEvent humansCreated(long count) {
+        return new SummaryDeltaEvent(0, 0, count, 0, 0, 0, 0);
+    }
+
+    public static SummaryDeltaEvent humanConsulted() {
+        return new SummaryDeltaEvent(0, 0, 0, 1, 0, 0, 0);
+    }
+
+    public static SummaryDeltaEvent matchingRequested() {
+        return new SummaryDeltaEvent(0, 1, 0, 0, 1, 1, 0);
+    }
+
+    public static SummaryDeltaEvent matchingConfirmed(boolean danger) {
+        return new SummaryDeltaEvent(0, 0, 0, 0, 0, 0, danger ? 1 : 0);
+    }
+
+    public static SummaryDeltaEvent matchingFailed() {
+        return new SummaryDeltaEvent(0, -1, 0, 0, -1, -1, 0);
+    }
+}
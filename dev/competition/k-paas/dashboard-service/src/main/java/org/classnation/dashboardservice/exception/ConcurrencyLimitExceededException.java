@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.exception;
+
+public class ConcurrencyLimitExceededException extends ServiceUnavailableException {
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -3,6 +3,7 @@ package org.classnation.dashboardservice.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.classnation.dashboardservice.dto.ApiResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -122,6 +123,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailedException(
+            PreconditionFailedException ex, HttpServletRequest request) {
+        String requestId = generateRequestId();
+        log.error("[{}] Precondition failed: {}", requestId, ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.<Void>error(
+                412,
+                "Precondition Failed",
+                "PRECONDITION_FAILED",
+                ex.getMessage()
+        ).withRequestId(requestId);
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        String requestId = generateRequestId();
+        log.error("[{}] Concurrent modification: {}", requestId, ex.getMessage());
+
+        ApiResponse<Void> response = ApiResponse.<Void>error(
+                409,
+                "Conflict",
+                "STATE_CONFLICT",
+                "The resource was modified concurrently, please retry"
+        ).withRequestId(requestId);
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     @ExceptionHandler(ExternalServiceException.class)
     public ResponseEntity<ApiResponse<Void>> handleExternalServiceException(
             ExternalServiceException ex, HttpServletRequest request) {
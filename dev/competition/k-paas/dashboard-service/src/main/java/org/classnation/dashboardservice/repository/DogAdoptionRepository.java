@@ -0,0 +1,23 @@
+package org.classnation.dashboardservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conditional adoption-status updates, written with plain JDBC so only the updated dog is evicted from the
+ * second-level cache. Like the JPQL updates they replace, they flush the persistence context first and clear it
+ * afterwards, and need a surrounding transaction.
+ */
+public interface DogAdoptionRepository {
+
+    /**
+     * Marks the dog adopted only if it is still available. Returns 0 when the dog does not exist or was claimed
+     * first by someone else; the row lock taken here is held until the surrounding transaction ends.
+     */
+    int claimForAdoption(String dogUuid, LocalDateTime now);
+
+    /**
+     * Makes a claimed dog available again after its adoption could not be confirmed. Returns 0 when the dog is
+     * no longer marked adopted.
+     */
+    int releaseAdoption(String dogUuid, LocalDateTime now);
+}
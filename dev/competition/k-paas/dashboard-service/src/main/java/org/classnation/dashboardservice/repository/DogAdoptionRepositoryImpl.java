@@ -0,0 +1,55 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class DogAdoptionRepositoryImpl implements DogAdoptionRepository {
+
+    private static final String CLAIM_SQL = """
+            UPDATE dogs
+            SET is_adopted = TRUE, version = version + 1, updated_at = ?
+            WHERE dog_uuid = ? AND is_adopted = FALSE
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE dogs
+            SET is_adopted = FALSE, version = version + 1, updated_at = ?
+            WHERE dog_uuid = ? AND is_adopted = TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public int claimForAdoption(String dogUuid, LocalDateTime now) {
+        return update(CLAIM_SQL, dogUuid, now);
+    }
+
+    @Override
+    public int releaseAdoption(String dogUuid, LocalDateTime now) {
+        return update(RELEASE_SQL, dogUuid, now);
+    }
+
+    private int update(String sql, String dogUuid, LocalDateTime now) {
+        entityManager.flush();
+
+        int updated = jdbcTemplate.update(sql, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setObject(2, UuidBinaryConverter.toBytes(dogUuid), Types.BINARY);
+        });
+
+        if (updated > 0) {
+            SecondLevelCache.evictAfterCompletion(entityManager, Dog.class, dogUuid);
+        }
+        entityManager.clear();
+        return updated;
+    }
+}
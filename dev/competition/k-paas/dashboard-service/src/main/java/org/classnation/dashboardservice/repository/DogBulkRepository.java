@@ -0,0 +1,17 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.Dog;
+
+import java.util.List;
+
+/**
+ * Plain JDBC batch writes for bulk loads. Hibernate cannot batch inserts for IDENTITY ids, so these
+ * bypass the persistence context; callers must not hold managed copies of the same rows. {@link #batchUpdate}
+ * evicts the updated dogs, inserts need no eviction since lookup misses are never cached.
+ */
+public interface DogBulkRepository {
+
+    void batchInsert(List<Dog> dogs);
+
+    void batchUpdate(List<Dog> dogs);
+}
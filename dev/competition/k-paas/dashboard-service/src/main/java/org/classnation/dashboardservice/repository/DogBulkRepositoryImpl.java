@@ -0,0 +1,90 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DogBulkRepositoryImpl implements DogBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO dogs (dog_uuid, shelter_name, name, size, activity, temperament, diseases,
+                              is_adopted, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE dogs
+            SET shelter_name = ?, name = ?, size = ?, activity = ?, temperament = ?, diseases = ?, updated_at = ?, version = version + 1
+            WHERE dog_uuid = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void batchInsert(List<Dog> dogs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, dogs, BATCH_SIZE, (ps, dog) -> {
+            ps.setObject(1, UuidBinaryConverter.toBytes(dog.getDogUuid()), Types.BINARY);
+            ps.setString(2, dog.getShelterName());
+            ps.setString(3, dog.getName());
+            ps.setString(4, name(dog.getSize()));
+            ps.setString(5, name(dog.getActivity()));
+            ps.setString(6, name(dog.getTemperament()));
+            ps.setString(7, dog.getDiseases());
+            ps.setBoolean(8, Boolean.TRUE.equals(dog.getIsAdopted()));
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    @Override
+    public void batchUpdate(List<Dog> dogs) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, dogs, BATCH_SIZE, (ps, dog) -> {
+            ps.setString(1, dog.getShelterName());
+            ps.setString(2, dog.getName());
+            ps.setString(3, name(dog.getSize()));
+            ps.setString(4, name(dog.getActivity()));
+            ps.setString(5, name(dog.getTemperament()));
+            ps.setString(6, dog.getDiseases());
+            ps.setTimestamp(7, now);
+            ps.setObject(8, UuidBinaryConverter.toBytes(dog.getDogUuid()), Types.BINARY);
+        });
+
+        SecondLevelCache.evictAfterCompletion(entityManager.getEntityManagerFactory(), Dog.class, ids(dogs));
+    }
+
+    private List<Long> ids(List<Dog> dogs) {
+        if (!SecondLevelCache.isEnabled(entityManager.getEntityManagerFactory())) {
+            return List.of();
+        }
+
+        List<String> dogUuids = dogs.stream().map(Dog::getDogUuid).toList();
+        List<Long> ids = new ArrayList<>(dogUuids.size());
+        for (int i = 0; i < dogUuids.size(); i += BATCH_SIZE) {
+            ids.addAll(entityManager.createQuery(
+                            "SELECT d.id FROM Dog d WHERE d.dogUuid IN :dogUuids", Long.class)
+                    .setParameter("dogUuids", dogUuids.subList(i, Math.min(dogUuids.size(), i + BATCH_SIZE)))
+                    .getResultList());
+        }
+        return ids;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
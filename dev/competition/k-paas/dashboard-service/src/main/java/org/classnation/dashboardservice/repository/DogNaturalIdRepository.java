@@ -0,0 +1,33 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.Dog;
+
+import java.util.Optional;
+
+/**
+ * Lookups by dog_uuid through Hibernate's natural-id API, so repeated lookups of the same dog are answered from the
+ * second-level cache instead of a unique-key query. These replace the derived queries of the same name.
+ */
+public interface DogNaturalIdRepository {
+
+    Optional<Dog> findByDogUuid(String dogUuid);
+
+    /**
+     * Answered from the cache once the dog has been loaded. Misses are not cached, so a new dog is found at once.
+     * Without the second-level cache this selects the id only.
+     */
+    boolean existsByDogUuid(String dogUuid);
+
+    /**
+     * Existence and status in one lookup: empty when the dog does not exist. Read from the cached dog when the
+     * second-level cache is enabled, where a miss loads the whole dog so the next lookup costs no query, otherwise
+     * by a query selecting only the status columns.
+     */
+    Optional<DogStatus> findStatusByDogUuid(String dogUuid);
+
+    /**
+     * Id and version of the dog, read from the cached dog when the second-level cache is enabled, otherwise by a
+     * query selecting only those columns.
+     */
+    Optional<EntityVersion> findVersionByDogUuid(String dogUuid);
+}
@@ -0,0 +1,71 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DogNaturalIdRepositoryImpl implements DogNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<Dog> findByDogUuid(String dogUuid) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Dog.class)
+                .loadOptional(cacheKey(dogUuid));
+    }
+
+    @Override
+    public boolean existsByDogUuid(String dogUuid) {
+        if (!SecondLevelCache.isEnabled(entityManager.getEntityManagerFactory())) {
+            return !entityManager.createQuery("SELECT d.id FROM Dog d WHERE d.dogUuid = :dogUuid", Long.class)
+                    .setParameter("dogUuid", dogUuid)
+                    .getResultList()
+                    .isEmpty();
+        }
+        // A reference would resolve the id without caching the resolution; a load caches both
+        return findByDogUuid(dogUuid).isPresent();
+    }
+
+    @Override
+    public Optional<DogStatus> findStatusByDogUuid(String dogUuid) {
+        if (!SecondLevelCache.isEnabled(entityManager.getEntityManagerFactory())) {
+            return entityManager.createQuery("""
+                            SELECT new org.classnation.dashboardservice.repository.DogStatus(d.isAdopted)
+                            FROM Dog d WHERE d.dogUuid = :dogUuid
+                            """, DogStatus.class)
+                    .setParameter("dogUuid", dogUuid)
+                    .getResultStream()
+                    .findFirst();
+        }
+        // A cached dog costs no query at all, which beats any projection. A miss costs more than the projection
+        // but fills the cache, so a second lookup within the ttl already comes out ahead (StatusProjectionBenchmark)
+        return findByDogUuid(dogUuid).map(dog -> new DogStatus(dog.getIsAdopted()));
+    }
+
+    @Override
+    public Optional<EntityVersion> findVersionByDogUuid(String dogUuid) {
+        if (!SecondLevelCache.isEnabled(entityManager.getEntityManagerFactory())) {
+            return entityManager.createQuery("""
+                            SELECT new org.classnation.dashboardservice.repository.EntityVersion(d.id, d.version)
+                            FROM Dog d WHERE d.dogUuid = :dogUuid
+                            """, EntityVersion.class)
+                    .setParameter("dogUuid", dogUuid)
+                    .getResultStream()
+                    .findFirst();
+        }
+        return findByDogUuid(dogUuid).map(dog -> new EntityVersion(dog.getId(), dog.getVersion()));
+    }
+
+    // The column is binary, so any case finds the row; the cache is keyed by the canonical form it returns
+    private static String cacheKey(String dogUuid) {
+        return UuidValidator.canonical(dogUuid, "dog UUID");
+    }
+}
@@ -1,15 +1,49 @@
 package org.classnation.dashboardservice.repository;
 
 import org.classnation.dashboardservice.entity.Dog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface DogRepository extends JpaRepository<Dog, Long> {
+public interface DogRepository extends JpaRepository<Dog, Long>, DogBulkRepository,
+        DogNaturalIdRepository, DogAdoptionRepository {
 
-    Optional<Dog> findByDogUuid(String dogUuid);
+    long countByIsAdopted(Boolean isAdopted);
 
-    boolean existsByDogUuid(String dogUuid);
+    // Keyset pages over idx_dog_status (is_adopted, created_at); InnoDB appends the id to the index
+    @Query("""
+            SELECT d FROM Dog d
+            WHERE d.isAdopted = :isAdopted
+              AND d.createdAt >= :from
+              AND d.createdAt <= :cursorCreatedAt
+              AND (d.createdAt < :cursorCreatedAt OR d.id < :cursorId)
+            ORDER BY d.createdAt DESC, d.id DESC
+            """)
+    List<Dog> findPageByStatus(@Param("isAdopted") Boolean isAdopted,
+                               @Param("from") LocalDateTime from,
+                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                               @Param("cursorId") Long cursorId,
+                               Pageable pageable);
+
+    @Query("""
+            SELECT d FROM Dog d
+            WHERE d.createdAt >= :from
+              AND d.createdAt <= :cursorCreatedAt
+              AND (d.createdAt < :cursorCreatedAt OR d.id < :cursorId)
+            ORDER BY d.createdAt DESC, d.id DESC
+            """)
+    List<Dog> findPage(@Param("from") LocalDateTime from,
+                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                       @Param("cursorId") Long cursorId,
+                       Pageable pageable);
+
+    @Query("SELECT d.dogUuid FROM Dog d WHERE d.dogUuid IN :dogUuids")
+    List<String> findExistingDogUuids(@Param("dogUuids") Collection<String> dogUuids);
 }
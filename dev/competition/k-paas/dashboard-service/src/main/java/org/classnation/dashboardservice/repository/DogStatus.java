@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.repository;
+
+/**
+ * The columns behind the dog status endpoint, read without materializing a {@code Dog}.
+ */
+public record DogStatus(Boolean isAdopted) {
+}
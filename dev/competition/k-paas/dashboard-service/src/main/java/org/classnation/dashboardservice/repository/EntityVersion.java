@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.repository;
+
+/**
+ * Identity and {@code @Version} of a dog or human row, enough to tell whether a client's copy is current.
+ */
+public record EntityVersion(Long id, Long version) {
+}
@@ -0,0 +1,17 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.Human;
+
+import java.util.List;
+
+/**
+ * Plain JDBC batch writes for bulk loads. Hibernate cannot batch inserts for IDENTITY ids, so these
+ * bypass the persistence context; callers must not hold managed copies of the same rows. {@link #batchUpdate}
+ * evicts the updated humans, inserts need no eviction since lookup misses are never cached.
+ */
+public interface HumanBulkRepository {
+
+    void batchInsert(List<Human> humans);
+
+    void batchUpdate(List<Human> humans);
+}
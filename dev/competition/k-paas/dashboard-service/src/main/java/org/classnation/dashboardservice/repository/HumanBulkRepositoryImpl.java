@@ -0,0 +1,94 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class HumanBulkRepositoryImpl implements HumanBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO humans (human_uuid, name, contact, address, home_size, mobility, pet_experience,
+                                outing_hours, initial_consulted, is_matched, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE humans
+            SET name = ?, contact = ?, address = ?, home_size = ?, mobility = ?, pet_experience = ?,
+                outing_hours = ?, updated_at = ?, version = version + 1
+            WHERE human_uuid = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public void batchInsert(List<Human> humans) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, humans, BATCH_SIZE, (ps, human) -> {
+            ps.setObject(1, UuidBinaryConverter.toBytes(human.getHumanUuid()), Types.BINARY);
+            ps.setString(2, human.getName());
+            ps.setString(3, human.getContact());
+            ps.setString(4, human.getAddress());
+            ps.setString(5, name(human.getHomeSize()));
+            ps.setString(6, name(human.getMobility()));
+            ps.setObject(7, human.getPetExperience(), Types.BOOLEAN);
+            ps.setObject(8, human.getOutingHours(), Types.INTEGER);
+            ps.setBoolean(9, Boolean.TRUE.equals(human.getInitialConsulted()));
+            ps.setBoolean(10, Boolean.TRUE.equals(human.getIsMatched()));
+            ps.setTimestamp(11, now);
+            ps.setTimestamp(12, now);
+        });
+    }
+
+    @Override
+    public void batchUpdate(List<Human> humans) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, humans, BATCH_SIZE, (ps, human) -> {
+            ps.setString(1, human.getName());
+            ps.setString(2, human.getContact());
+            ps.setString(3, human.getAddress());
+            ps.setString(4, name(human.getHomeSize()));
+            ps.setString(5, name(human.getMobility()));
+            ps.setObject(6, human.getPetExperience(), Types.BOOLEAN);
+            ps.setObject(7, human.getOutingHours(), Types.INTEGER);
+            ps.setTimestamp(8, now);
+            ps.setObject(9, UuidBinaryConverter.toBytes(human.getHumanUuid()), Types.BINARY);
+        });
+
+        SecondLevelCache.evictAfterCompletion(entityManager.getEntityManagerFactory(), Human.class, ids(humans));
+    }
+
+    private List<Long> ids(List<Human> humans) {
+        if (!SecondLevelCache.isEnabled(entityManager.getEntityManagerFactory())) {
+            return List.of();
+        }
+
+        List<String> humanUuids = humans.stream().map(Human::getHumanUuid).toList();
+        List<Long> ids = new ArrayList<>(humanUuids.size());
+        for (int i = 0; i < humanUuids.size(); i += BATCH_SIZE) {
+            ids.addAll(entityManager.createQuery(
+                            "SELECT h.id FROM Human h WHERE h.humanUuid IN :humanUuids", Long.class)
+                    .setParameter("humanUuids", humanUuids.subList(i, Math.min(humanUuids.size(), i + BATCH_SIZE)))
+                    .getResultList());
+        }
+        return ids;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+}
@@ -0,0 +1,22 @@
+package org.classnation.dashboardservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Conditional matching-status updates, written with plain JDBC so only the updated human is evicted from the
+ * second-level cache. Like the JPQL updates they replace, they flush the persistence context first and clear it
+ * afterwards, and need a surrounding transaction.
+ */
+public interface HumanMatchingRepository {
+
+    /**
+     * Marks the human matched only if they are still unmatched. Returns 0 when the human does not exist or was
+     * matched first by someone else; the row lock taken here is held until the surrounding transaction ends.
+     */
+    int claimForMatching(String humanUuid, LocalDateTime now);
+
+    /**
+     * Counterpart of {@link #claimForMatching} for matchings whose adoption could not be confirmed.
+     */
+    int releaseMatching(String humanUuid, LocalDateTime now);
+}
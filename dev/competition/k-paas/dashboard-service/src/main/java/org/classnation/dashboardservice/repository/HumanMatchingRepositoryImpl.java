@@ -0,0 +1,55 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class HumanMatchingRepositoryImpl implements HumanMatchingRepository {
+
+    private static final String CLAIM_SQL = """
+            UPDATE humans
+            SET is_matched = TRUE, version = version + 1, updated_at = ?
+            WHERE human_uuid = ? AND is_matched = FALSE
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE humans
+            SET is_matched = FALSE, version = version + 1, updated_at = ?
+            WHERE human_uuid = ? AND is_matched = TRUE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public int claimForMatching(String humanUuid, LocalDateTime now) {
+        return update(CLAIM_SQL, humanUuid, now);
+    }
+
+    @Override
+    public int releaseMatching(String humanUuid, LocalDateTime now) {
+        return update(RELEASE_SQL, humanUuid, now);
+    }
+
+    private int update(String sql, String humanUuid, LocalDateTime now) {
+        entityManager.flush();
+
+        int updated = jdbcTemplate.update(sql, ps -> {
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setObject(2, UuidBinaryConverter.toBytes(humanUuid), Types.BINARY);
+        });
+
+        if (updated > 0) {
+            SecondLevelCache.evictAfterCompletion(entityManager, Human.class, humanUuid);
+        }
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -0,0 +1,33 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.Human;
+
+import java.util.Optional;
+
+/**
+ * Lookups by human_uuid through Hibernate's natural-id API, so repeated lookups of the same human are answered from the
+ * second-level cache instead of a unique-key query. These replace the derived queries of the same name.
+ */
+public interface HumanNaturalIdRepository {
+
+    Optional<Human> findByHumanUuid(String humanUuid);
+
+    /**
+     * Answered from the cache once the human has been loaded. Misses are not cached, so a new human is found at once.
+     * Without the second-level cache this selects the id only.
+     */
+    boolean existsByHumanUuid(String humanUuid);
+
+    /**
+     * Existence and status in one lookup: empty when the human does not exist. Read from the cached human when the
+     * second-level cache is enabled, where a miss loads the whole human so the next lookup costs no query, otherwise
+     * by a query selecting only the status columns.
+     */
+    Optional<HumanStatus> findStatusByHumanUuid(String humanUuid);
+
+    /**
+     * Id and version of the human, read from the cached human when the second-level cache is enabled, otherwise by a
+     * query selecting only those columns.
+     */
+    Optional<EntityVersion> findVersionByHumanUuid(String humanUuid);
+}
@@ -1,15 +1,54 @@
 package org.classnation.dashboardservice.repository;
 
 import org.classnation.dashboardservice.entity.Human;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface HumanRepository extends JpaRepository<Human, Long> {
+public interface HumanRepository extends JpaRepository<Human, Long>, HumanBulkRepository,
+        HumanNaturalIdRepository, HumanMatchingRepository {
 
-    Optional<Human> findByHumanUuid(String humanUuid);
+    long countByInitialConsulted(Boolean initialConsulted);
 
-    boolean existsByHumanUuid(String humanUuid);
+    long countByIsMatched(Boolean isMatched);
+
+    // Keyset pages over idx_human_status (is_matched, created_at); InnoDB appends the id to the index
+    @Query("""
+            SELECT h FROM Human h
+            WHERE h.isMatched = :isMatched
+              AND h.createdAt >= :from
+              AND h.createdAt <= :cursorCreatedAt
+              AND (h.createdAt < :cursorCreatedAt OR h.id < :cursorId)
+            ORDER BY h.createdAt DESC, h.id DESC
+            """)
+    List<Human> findPageByStatus(@Param("isMatched") Boolean isMatched,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                 @Param("cursorId") Long cursorId,
+                                 Pageable pageable);
+
+    @Query("""
+            SELECT h FROM Human h
+            WHERE h.createdAt >= :from
+              AND h.createdAt <= :cursorCreatedAt
+              AND (h.createdAt < :cursorCreatedAt OR h.id < :cursorId)
+            ORDER BY h.createdAt DESC, h.id DESC
+            """)
+    List<Human> findPage(@Param("from") LocalDateTime from,
+                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                         @Param("cursorId") Long cursorId,
+                         Pageable pageable);
+
+    @Query("SELECT h.humanUuid FROM Human h WHERE h.humanUuid IN :humanUuids")
+    List<String> findExistingHumanUuids(@Param("humanUuids") Collection<String> humanUuids);
+
+    @Query("SELECT h.humanUuid FROM Human h WHERE h.isMatched = true")
+    List<String> findMatchedHumanUuids();
 }
@@ -0,0 +1,7 @@
+package org.classnation.dashboardservice.repository;
+
+/**
+ * The columns behind the human status endpoints, read without materializing a {@code Human} and its address.
+ */
+public record HumanStatus(Boolean initialConsulted, Boolean isMatched) {
+}
@@ -1,11 +1,52 @@
 package org.classnation.dashboardservice.repository;
 
 import org.classnation.dashboardservice.entity.Matching;
+import org.classnation.dashboardservice.entity.MatchingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface MatchingRepository extends JpaRepository<Matching, Long> {
 
-    boolean existsByHumanUuidAndDogUuid(String humanUuid, String dogUuid);
+    Optional<Matching> findByHumanUuidAndDogUuid(String humanUuid, String dogUuid);
+
+    long countByStatusNotAndMatchedAtGreaterThanEqual(MatchingStatus status, LocalDateTime from);
+
+    long countByIsDanger(Boolean isDanger);
+
+    // Keyset pages over idx_matched_at; InnoDB appends the matching_id to the index
+    @Query("""
+            SELECT m FROM Matching m
+            WHERE m.matchedAt >= :from
+              AND m.matchedAt <= :cursorMatchedAt
+              AND (m.matchedAt < :cursorMatchedAt OR m.matchingId < :cursorId)
+            ORDER BY m.matchedAt DESC, m.matchingId DESC
+            """)
+    List<Matching> findPage(@Param("from") LocalDateTime from,
+                            @Param("cursorMatchedAt") LocalDateTime cursorMatchedAt,
+                            @Param("cursorId") Long cursorId,
+                            Pageable pageable);
+
+    // Only CONFIRMED matchings have been assessed; PENDING and FAILED ones carry a placeholder is_danger = false
+    @Query("""
+            SELECT m FROM Matching m
+            WHERE m.isDanger = :isDanger
+              AND m.status = org.classnation.dashboardservice.entity.MatchingStatus.CONFIRMED
+              AND m.matchedAt >= :from
+              AND m.matchedAt <= :cursorMatchedAt
+              AND (m.matchedAt < :cursorMatchedAt OR m.matchingId < :cursorId)
+            ORDER BY m.matchedAt DESC, m.matchingId DESC
+            """)
+    List<Matching> findPageByDanger(@Param("isDanger") Boolean isDanger,
+                                    @Param("from") LocalDateTime from,
+                                    @Param("cursorMatchedAt") LocalDateTime cursorMatchedAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Pageable pageable);
 }
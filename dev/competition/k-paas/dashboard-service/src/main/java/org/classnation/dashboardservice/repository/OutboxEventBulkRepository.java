@@ -0,0 +1,10 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxEventBulkRepository {
+
+    void batchInsert(List<OutboxEvent> events);
+}
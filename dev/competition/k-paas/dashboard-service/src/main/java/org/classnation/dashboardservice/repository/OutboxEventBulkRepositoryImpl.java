@@ -0,0 +1,35 @@
+package org.classnation.dashboardservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.classnation.dashboardservice.entity.OutboxEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class OutboxEventBulkRepositoryImpl implements OutboxEventBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events (aggregate_id, event_type, payload, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<OutboxEvent> events) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (ps, event) -> {
+            ps.setString(1, event.getAggregateId());
+            ps.setString(2, event.getEventType().name());
+            ps.setString(3, event.getPayload());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package org.classnation.dashboardservice.repository;
+
+import org.classnation.dashboardservice.entity.OutboxEvent;
+import org.classnation.dashboardservice.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventBulkRepository {
+
+    /**
+     * Pending events that are due, not leased by another relay instance and first in line for their aggregate,
+     * locked with {@code FOR UPDATE SKIP LOCKED} so concurrent claims never return the same row. An aggregate's
+     * later events stay out until the ones before it are sent or failed, which keeps delivery in order across
+     * instances. Must run in a transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.status = :status
+              AND e.nextAttemptAt <= :now
+              AND (e.claimedUntil IS NULL OR e.claimedUntil < :now)
+              AND NOT EXISTS (SELECT p.id FROM OutboxEvent p
+                              WHERE p.aggregateId = e.aggregateId AND p.status = :status AND p.id < e.id)
+            ORDER BY e.id
+            """)
+    List<OutboxEvent> findDeliverable(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
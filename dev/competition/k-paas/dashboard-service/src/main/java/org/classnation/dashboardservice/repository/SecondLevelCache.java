@@ -0,0 +1,71 @@
+package org.classnation.dashboardservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the second-level cache in step with rows written behind Hibernate's back. Only the written entities are
+ * evicted: a JPQL or native bulk statement would make Hibernate empty the entity's whole region instead.
+ */
+final class SecondLevelCache {
+
+    private SecondLevelCache() {
+    }
+
+    static boolean isEnabled(EntityManagerFactory entityManagerFactory) {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .isSecondLevelCacheEnabled();
+    }
+
+    /**
+     * Evicts the entity with natural id {@code naturalId}, resolving its id through the persistence context or the
+     * natural-id cache before it queries the database.
+     */
+    static void evictAfterCompletion(EntityManager entityManager, Class<?> entityClass, Object naturalId) {
+        if (!isEnabled(entityManager.getEntityManagerFactory())) {
+            return;
+        }
+
+        Object reference = entityManager.unwrap(Session.class).bySimpleNaturalId(entityClass).getReference(naturalId);
+        if (reference != null) {
+            Object id = entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(reference);
+            evictAfterCompletion(entityManager.getEntityManagerFactory(), entityClass, List.of(id));
+        }
+    }
+
+    /**
+     * Evicts the entities with the given ids now and again once the surrounding transaction completes, so an entry
+     * reloaded from the old rows before commit does not survive it.
+     */
+    static void evictAfterCompletion(EntityManagerFactory entityManagerFactory, Class<?> entityClass,
+                                     Collection<?> ids) {
+        if (ids.isEmpty() || !isEnabled(entityManagerFactory)) {
+            return;
+        }
+
+        evict(entityManagerFactory, entityClass, ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(entityManagerFactory, entityClass, ids);
+                }
+            });
+        }
+    }
+
+    private static void evict(EntityManagerFactory entityManagerFactory, Class<?> entityClass, Collection<?> ids) {
+        for (Object id : ids) {
+            entityManagerFactory.getCache().evict(entityClass, id);
+        }
+    }
+}
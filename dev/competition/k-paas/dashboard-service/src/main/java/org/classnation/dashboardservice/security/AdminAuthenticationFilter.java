@@ -6,7 +6,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.classnation.dashboardservice.client.UserServiceClient;
 import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
 import org.classnation.dashboardservice.exception.ForbiddenException;
 import org.classnation.dashboardservice.exception.UnauthorizedException;
@@ -24,7 +23,8 @@ import java.util.Collections;
 @Slf4j
 public class AdminAuthenticationFilter extends OncePerRequestFilter {
 
-    private final UserServiceClient userServiceClient;
+    private final TokenVerificationCache tokenVerificationCache;
+    private final LocalJwtVerifier localJwtVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -49,8 +49,8 @@ public class AdminAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                // Verify token with user-service
-                VerifyTokenResponse verifyResponse = userServiceClient.verifyToken(token);
+                // Verify token locally or with user-service (served from cache when possible)
+                VerifyTokenResponse verifyResponse = verifyToken(token);
 
                 if (!verifyResponse.getValid()) {
                     throw new UnauthorizedException("Invalid token");
@@ -82,4 +82,12 @@ public class AdminAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private VerifyTokenResponse verifyToken(String token) {
+        if (localJwtVerifier.isEnabled()) {
+            return localJwtVerifier.verify(token)
+                    .orElseGet(() -> tokenVerificationCache.verify(token));
+        }
+        return tokenVerificationCache.verify(token);
+    }
 }
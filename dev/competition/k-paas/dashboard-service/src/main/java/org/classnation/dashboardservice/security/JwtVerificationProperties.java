@@ -0,0 +1,35 @@
+package org.classnation.dashboardservice.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigurationProperties(prefix = "security.jwt")
+@Getter
+@Setter
+public class JwtVerificationProperties {
+
+    /**
+     * REMOTE always asks user-service; LOCAL verifies HS256 tokens in-process and only
+     * falls back to user-service for tokens signed with an unknown kid.
+     */
+    private VerificationMode verificationMode = VerificationMode.REMOTE;
+
+    /**
+     * HMAC secrets keyed by the {@code kid} header value used by the issuer.
+     */
+    private Map<String, String> keys = new HashMap<>();
+
+    private String expectedType = "access";
+
+    private Duration allowedClockSkew = Duration.ofSeconds(30);
+
+    public enum VerificationMode {
+        REMOTE,
+        LOCAL
+    }
+}
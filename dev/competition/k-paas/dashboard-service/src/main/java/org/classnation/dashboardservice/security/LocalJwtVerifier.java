@@ -0,0 +1,125 @@
+package org.classnation.dashboardservice.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Verifies HS256 access tokens issued by the auth module (JwtService) without calling user-service.
+ * <p>
+ * The signing key is selected by the {@code kid} header. Tokens carrying a kid that is not configured
+ * yield {@link Optional#empty()} so the caller can fall back to remote verification.
+ */
+@Component
+@Slf4j
+public class LocalJwtVerifier {
+
+    private final boolean enabled;
+    private final String expectedType;
+    private final Map<String, SecretKey> keys = new HashMap<>();
+    private final JwtParser parser;
+
+    public LocalJwtVerifier(JwtVerificationProperties properties) {
+        this.enabled = properties.getVerificationMode() == JwtVerificationProperties.VerificationMode.LOCAL;
+        this.expectedType = properties.getExpectedType();
+
+        properties.getKeys().forEach((kid, secret) ->
+                keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+
+        this.parser = Jwts.parserBuilder()
+                .setAllowedClockSkewSeconds(properties.getAllowedClockSkew().toSeconds())
+                .setSigningKeyResolver(new KidSigningKeyResolver())
+                .build();
+
+        if (enabled) {
+            log.info("Local JWT verification enabled with kids: {}", keys.keySet());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Verifies signature, expiry and token type locally. Tokens without an {@code exp} claim are rejected.
+     *
+     * @return the verification result, or empty when the token's kid is unknown and remote verification is needed
+     * @throws UnauthorizedException when the token is malformed, expired, badly signed or not an access token
+     */
+    public Optional<VerifyTokenResponse> verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseClaimsJws(token).getBody();
+        } catch (UnknownKidException e) {
+            log.debug("Unknown kid '{}', falling back to remote verification", e.getKid());
+            return Optional.empty();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new UnauthorizedException("Token validation failed");
+        }
+
+        // The parser only checks exp when present; a token without one would never expire
+        if (claims.getExpiration() == null) {
+            throw new UnauthorizedException("Token has no expiry");
+        }
+
+        if (!expectedType.equals(claims.get("type", String.class))) {
+            throw new UnauthorizedException("Invalid token type");
+        }
+
+        return Optional.of(VerifyTokenResponse.builder()
+                .valid(true)
+                .uid(claims.getSubject())
+                .sid(claims.get("sid", String.class))
+                .role(claims.get("role", String.class))
+                .build());
+    }
+
+    private class KidSigningKeyResolver extends SigningKeyResolverAdapter {
+
+        // jjwt 0.11 declares this with a raw JwsHeader; a JwsHeader<?> parameter would not override it
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            if (!SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                throw new UnauthorizedException("Unsupported token algorithm");
+            }
+
+            String kid = header.getKeyId();
+            SecretKey key = kid != null ? keys.get(kid) : null;
+            if (key == null) {
+                throw new UnknownKidException(kid);
+            }
+            return key;
+        }
+    }
+
+    private static class UnknownKidException extends RuntimeException {
+
+        private final String kid;
+
+        UnknownKidException(String kid) {
+            super("Unknown kid: " + kid, null, false, false);
+            this.kid = kid;
+        }
+
+        String getKid() {
+            return kid;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package org.classnation.dashboardservice.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.client.UserServiceClient;
+import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
+import org.classnation.dashboardservice.exception.ForbiddenException;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * In-process cache in front of {@link UserServiceClient#verifyToken(String)}.
+ * <p>
+ * Entries are keyed by the SHA-256 of the token so raw tokens never sit in memory longer than a request.
+ * Successful verifications live until the token's own {@code exp} (capped by {@code max-ttl}); rejections
+ * (401/403 or {@code valid=false}) are cached for {@code negative-ttl}. Concurrent lookups for the same token
+ * share a single in-flight call, and transient failures are never cached.
+ */
+@Component
+@Slf4j
+public class TokenVerificationCache {
+
+    private final UserServiceClient userServiceClient;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Duration negativeTtl;
+    private final AsyncCache<String, CachedVerification> cache;
+
+    public TokenVerificationCache(
+            UserServiceClient userServiceClient,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${security.token-cache.enabled:true}") boolean enabled,
+            @Value("${security.token-cache.max-size:10000}") long maxSize,
+            @Value("${security.token-cache.max-ttl:5m}") Duration maxTtl,
+            @Value("${security.token-cache.negative-ttl:10s}") Duration negativeTtl) {
+        this.userServiceClient = userServiceClient;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxTtl = maxTtl;
+        this.negativeTtl = negativeTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new VerificationExpiry())
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tokenVerification");
+    }
+
+    /**
+     * Returns the verification result for the token, throwing {@link UnauthorizedException} or
+     * {@link ForbiddenException} exactly as the remote call would.
+     */
+    public VerifyTokenResponse verify(String token) {
+        if (!enabled) {
+            return userServiceClient.verifyToken(token);
+        }
+
+        String key = hash(token);
+
+        CompletableFuture<CachedVerification> created = new CompletableFuture<>();
+        CompletableFuture<CachedVerification> future = cache.get(key, (k, executor) -> created);
+
+        if (future == created) {
+            // This thread owns the downstream call; concurrent callers join the same future
+            try {
+                created.complete(load(token));
+            } catch (RuntimeException e) {
+                created.completeExceptionally(e);
+            }
+        }
+
+        return unwrap(future).toResponse();
+    }
+
+    /**
+     * Drops every cached verification. Intended for key rotation or forced logout scenarios.
+     */
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    private CachedVerification load(String token) {
+        try {
+            VerifyTokenResponse response = userServiceClient.verifyToken(token);
+
+            if (response == null || !Boolean.TRUE.equals(response.getValid())) {
+                return CachedVerification.unauthorized("Invalid token", negativeExpiry());
+            }
+
+            return CachedVerification.verified(response, positiveExpiry(token));
+        } catch (UnauthorizedException e) {
+            return CachedVerification.unauthorized(e.getMessage(), negativeExpiry());
+        } catch (ForbiddenException e) {
+            return CachedVerification.forbidden(e.getMessage(), negativeExpiry());
+        }
+    }
+
+    private CachedVerification unwrap(CompletableFuture<CachedVerification> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Instant negativeExpiry() {
+        return Instant.now().plus(negativeTtl);
+    }
+
+    private Instant positiveExpiry(String token) {
+        Instant cap = Instant.now().plus(maxTtl);
+        Instant tokenExpiry = readExpiry(token);
+
+        if (tokenExpiry == null || tokenExpiry.isAfter(cap)) {
+            return cap;
+        }
+        return tokenExpiry;
+    }
+
+    /**
+     * Reads the {@code exp} claim without checking the signature. The token has already been verified
+     * remotely at this point; the claim is only used to bound how long that answer is reused.
+     */
+    private Instant readExpiry(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = objectMapper.readTree(payload).get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (Exception e) {
+            log.debug("Could not read exp claim from token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedVerification(VerifyTokenResponse response, boolean forbidden, String message,
+                                      Instant expiresAt) {
+
+        static CachedVerification verified(VerifyTokenResponse response, Instant expiresAt) {
+            return new CachedVerification(response, false, null, expiresAt);
+        }
+
+        static CachedVerification unauthorized(String message, Instant expiresAt) {
+            return new CachedVerification(null, false, message, expiresAt);
+        }
+
+        static CachedVerification forbidden(String message, Instant expiresAt) {
+            return new CachedVerification(null, true, message, expiresAt);
+        }
+
+        VerifyTokenResponse toResponse() {
+            if (response != null) {
+                return response;
+            }
+            if (forbidden) {
+                throw new ForbiddenException(message);
+            }
+            throw new UnauthorizedException(message);
+        }
+    }
+
+    private static class VerificationExpiry implements Expiry<String, CachedVerification> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedVerification value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedVerification value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedVerification value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.classnation.dashboardservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.DangerAlertResponse;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans danger alerts out to SSE subscribers.
+ * <p>
+ * Subscribers are async servlet requests, so an idle connection holds no thread. The most recent alerts are kept
+ * in a replay buffer so a client reconnecting with {@code Last-Event-ID} receives what it missed. Event ids start
+ * at the boot time in milliseconds and only increase, so ids from before a restart still order correctly.
+ * <p>
+ * Publishing only enqueues: each subscriber has a bounded queue drained by its own sender task, so a client that
+ * stops reading never stalls the poller or the other subscribers. A subscriber whose queue fills up is dropped and
+ * can reconnect with {@code Last-Event-ID} to catch up from the replay buffer.
+ */
+@Component
+@Slf4j
+public class DangerAlertBroadcaster {
+
+    private static final String EVENT_NAME = "danger-alert";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Alert> replayBuffer = new ArrayDeque<>();
+    // Sends block on the client's socket, so each drain runs on its own virtual thread
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("danger-alert-sse-", 0).factory());
+    private final long emitterTimeoutMillis;
+    private final int maxSubscribers;
+    private final int replayBufferSize;
+    private final int sendQueueSize;
+
+    private long lastEventId = System.currentTimeMillis();
+
+    public DangerAlertBroadcaster(
+            @Value("${dashboard.danger-alerts.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${dashboard.danger-alerts.max-subscribers:5000}") int maxSubscribers,
+            @Value("${dashboard.danger-alerts.replay-buffer-size:1000}") int replayBufferSize,
+            @Value("${dashboard.danger-alerts.send-queue-size:64}") int sendQueueSize) {
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        this.replayBufferSize = replayBufferSize;
+        this.sendQueueSize = sendQueueSize;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Too many danger alert subscribers");
+        }
+
+        return register(new SseEmitter(emitterTimeoutMillis), lastEventId);
+    }
+
+    SseEmitter register(SseEmitter emitter, String lastEventId) {
+        // Room for a full replay on top of the live backlog a subscriber may fall behind by
+        Subscriber subscriber = new Subscriber(emitter, replayBufferSize + sendQueueSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+
+        long resumeAfter = parseEventId(lastEventId);
+
+        // Replay and registration happen under the buffer lock so no alert is missed or queued twice
+        synchronized (replayBuffer) {
+            for (Alert alert : replayBuffer) {
+                if (alert.id() > resumeAfter && !subscriber.offer(alert.event())) {
+                    drop(subscriber);
+                    return emitter;
+                }
+            }
+            subscribers.add(subscriber);
+        }
+
+        return emitter;
+    }
+
+    public void publish(DangerAlertResponse alert) {
+        Alert entry;
+        List<Subscriber> recipients;
+
+        synchronized (replayBuffer) {
+            long id = ++lastEventId;
+            entry = new Alert(id, toEvent(id, alert));
+            replayBuffer.addLast(entry);
+            if (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            recipients = new ArrayList<>(subscribers);
+        }
+
+        broadcast(recipients, entry.event());
+    }
+
+    @Scheduled(fixedRateString = "${dashboard.danger-alerts.heartbeat-interval:15000}")
+    public void heartbeat() {
+        broadcast(new ArrayList<>(subscribers), SseEmitter.event().comment("heartbeat").build());
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+    }
+
+    private void broadcast(List<Subscriber> recipients, Set<DataWithMediaType> event) {
+        for (Subscriber subscriber : recipients) {
+            if (!subscriber.offer(event)) {
+                drop(subscriber);
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        if (subscriber.close()) {
+            log.debug("Dropping danger alert subscriber: send queue full");
+        }
+    }
+
+    private Set<DataWithMediaType> toEvent(long id, DangerAlertResponse payload) {
+        return SseEmitter.event()
+                .id(Long.toString(id))
+                .name(EVENT_NAME)
+                .data(payload)
+                .build();
+    }
+
+    private long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            // A fresh subscriber only gets alerts from now on
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private record Alert(long id, Set<DataWithMediaType> event) {
+    }
+
+    /**
+     * One SSE connection with its own send queue. At most one drain task runs per subscriber, so events reach the
+     * client in publish order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(capacity);
+        }
+
+        boolean offer(Set<DataWithMediaType> event) {
+            if (closed.get() || !pending.offer(event)) {
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            pending.clear();
+            try {
+                // complete() waits for a send stuck on the socket, so it must not run on the publishing thread
+                sender.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; the container completes the request
+            }
+            return true;
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> event;
+                while (!closed.get() && (event = pending.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // Client went away; the container completes the request
+                        subscribers.remove(this);
+                        closed.set(true);
+                        pending.clear();
+                        log.debug("Dropping danger alert subscriber: {}", e.getMessage());
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!closed.get() && !pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
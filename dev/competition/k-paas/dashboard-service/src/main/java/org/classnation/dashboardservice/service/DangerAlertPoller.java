@@ -0,0 +1,127 @@
+package org.classnation.dashboardservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.DangerAlertResponse;
+import org.classnation.dashboardservice.dto.LatestDangerResponse;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Polls report-service for the latest danger report of every matched human and publishes an alert whenever the
+ * reportId differs from the last one seen. Reports created before this instance started are only recorded, so a
+ * restart does not replay old alerts.
+ * <p>
+ * Lookups go through the {@link LatestDangerFetcher} pool shared with batch requests, at most {@code max-in-flight}
+ * at a time, so a large matched population neither overflows that pool's queue nor crowds out batch requests.
+ */
+@Component
+@ConditionalOnProperty(name = "dashboard.danger-alerts.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class DangerAlertPoller {
+
+    private final HumanRepository humanRepository;
+    private final LatestDangerFetcher latestDangerFetcher;
+    private final DangerAlertBroadcaster broadcaster;
+    private final Duration pollTimeout;
+    private final int maxInFlight;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final Map<String, String> lastSeenReportIds = new ConcurrentHashMap<>();
+
+    public DangerAlertPoller(
+            HumanRepository humanRepository,
+            LatestDangerFetcher latestDangerFetcher,
+            DangerAlertBroadcaster broadcaster,
+            @Value("${dashboard.danger-alerts.poll-timeout:20s}") Duration pollTimeout,
+            @Value("${dashboard.danger-alerts.max-in-flight:32}") int maxInFlight) {
+        this.humanRepository = humanRepository;
+        this.latestDangerFetcher = latestDangerFetcher;
+        this.broadcaster = broadcaster;
+        this.pollTimeout = pollTimeout;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Scheduled(fixedDelayString = "${dashboard.danger-alerts.poll-interval:30000}")
+    public void poll() {
+        List<String> matched = humanRepository.findMatchedHumanUuids();
+
+        // Forget humans that are no longer matched
+        lastSeenReportIds.keySet().retainAll(new HashSet<>(matched));
+
+        long deadline = System.nanoTime() + pollTimeout.toNanos();
+        Semaphore window = new Semaphore(maxInFlight);
+        Map<String, CompletableFuture<LatestDangerResponse>> pending = new LinkedHashMap<>();
+        try {
+            for (String humanUuid : matched) {
+                if (!window.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                    break;
+                }
+                CompletableFuture<LatestDangerResponse> lookup = latestDangerFetcher.fetch(humanUuid);
+                lookup.whenComplete((report, error) -> window.release());
+                pending.put(humanUuid, lookup);
+            }
+        } catch (InterruptedException e) {
+            pending.values().forEach(lookup -> lookup.cancel(false));
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        // Humans the window never reached before the deadline were not checked either
+        int failures = matched.size() - pending.size();
+        for (Map.Entry<String, CompletableFuture<LatestDangerResponse>> entry : pending.entrySet()) {
+            try {
+                LatestDangerResponse report = entry.getValue()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                diff(entry.getKey(), report);
+            } catch (TimeoutException | ExecutionException e) {
+                entry.getValue().cancel(false);
+                failures++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        if (failures > 0) {
+            log.warn("Danger alert poll could not check {} of {} matched humans", failures, matched.size());
+        }
+    }
+
+    private void diff(String humanUuid, LatestDangerResponse report) {
+        if (report == null || report.getReportId() == null || !Boolean.TRUE.equals(report.getIsDanger())) {
+            return;
+        }
+
+        String previous = lastSeenReportIds.put(humanUuid, report.getReportId());
+        if (report.getReportId().equals(previous)) {
+            return;
+        }
+        if (previous == null && (report.getCreatedAt() == null || report.getCreatedAt().isBefore(startedAt))) {
+            return;
+        }
+
+        log.info("New danger report {} for human {}", report.getReportId(), humanUuid);
+        broadcaster.publish(DangerAlertResponse.builder()
+                .humanUuid(humanUuid)
+                .reportId(report.getReportId())
+                .reportedAt(report.getCreatedAt())
+                .summary(report.getSummary())
+                .detectedAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,115 @@
+package org.classnation.dashboardservice.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.DashboardSummaryResponse;
+import org.classnation.dashboardservice.entity.MatchingStatus;
+import org.classnation.dashboardservice.event.SummaryDeltaEvent;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.classnation.dashboardservice.repository.MatchingRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory dashboard totals. Write paths publish {@link SummaryDeltaEvent}s that are applied after commit, so
+ * reading the summary never touches the database. Counters are reset from COUNT queries at startup and on a
+ * fixed schedule, which bounds any drift (e.g. from writes made by another instance) to one interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardSummaryService {
+
+    private final DogRepository dogRepository;
+    private final HumanRepository humanRepository;
+    private final MatchingRepository matchingRepository;
+
+    private final AtomicLong totalDogs = new AtomicLong();
+    private final AtomicLong adoptedDogs = new AtomicLong();
+    private final AtomicLong totalHumans = new AtomicLong();
+    private final AtomicLong consultedHumans = new AtomicLong();
+    private final AtomicLong matchedHumans = new AtomicLong();
+    private final AtomicLong matchingsToday = new AtomicLong();
+    private final AtomicLong dangerMatchings = new AtomicLong();
+
+    private volatile LocalDate today = LocalDate.now();
+    private volatile LocalDateTime reconciledAt;
+
+    public DashboardSummaryResponse getSummary() {
+        rollOverDay();
+
+        long dogs = totalDogs.get();
+        long adopted = adoptedDogs.get();
+
+        return DashboardSummaryResponse.builder()
+                .totalDogs(dogs)
+                .adoptedDogs(adopted)
+                .availableDogs(dogs - adopted)
+                .totalHumans(totalHumans.get())
+                .consultedHumans(consultedHumans.get())
+                .matchedHumans(matchedHumans.get())
+                .matchingsToday(matchingsToday.get())
+                .dangerMatchings(dangerMatchings.get())
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSummaryDelta(SummaryDeltaEvent delta) {
+        rollOverDay();
+
+        totalDogs.addAndGet(delta.dogs());
+        adoptedDogs.addAndGet(delta.adoptedDogs());
+        totalHumans.addAndGet(delta.humans());
+        consultedHumans.addAndGet(delta.consultedHumans());
+        matchedHumans.addAndGet(delta.matchedHumans());
+        matchingsToday.addAndGet(delta.matchings());
+        dangerMatchings.addAndGet(delta.dangerMatchings());
+    }
+
+    // Listener and scheduler both call through the proxy, so the counts are read in one read-only transaction
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${dashboard.summary.reconcile-interval:300000}",
+            initialDelayString = "${dashboard.summary.reconcile-interval:300000}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        LocalDate date = LocalDate.now();
+
+        totalDogs.set(dogRepository.count());
+        adoptedDogs.set(dogRepository.countByIsAdopted(true));
+        totalHumans.set(humanRepository.count());
+        consultedHumans.set(humanRepository.countByInitialConsulted(true));
+        matchedHumans.set(humanRepository.countByIsMatched(true));
+        matchingsToday.set(matchingRepository.countByStatusNotAndMatchedAtGreaterThanEqual(
+                MatchingStatus.FAILED, date.atStartOfDay()));
+        dangerMatchings.set(matchingRepository.countByIsDanger(true));
+
+        today = date;
+        reconciledAt = LocalDateTime.now();
+
+        log.debug("Dashboard summary reconciled: dogs={}, humans={}, matchingsToday={}",
+                totalDogs.get(), totalHumans.get(), matchingsToday.get());
+    }
+
+    private void rollOverDay() {
+        LocalDate now = LocalDate.now();
+        if (!now.equals(today)) {
+            synchronized (this) {
+                if (!now.equals(today)) {
+                    matchingsToday.set(0);
+                    today = now;
+                }
+            }
+        }
+    }
+}
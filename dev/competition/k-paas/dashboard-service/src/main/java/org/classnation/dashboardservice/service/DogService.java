@@ -2,17 +2,30 @@ package org.classnation.dashboardservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.classnation.dashboardservice.client.ReportServiceClient;
 import org.classnation.dashboardservice.client.dto.ReportServiceRegisterDogRequest;
 import org.classnation.dashboardservice.dto.*;
 import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.event.DogAdoptionStatusChangedEvent;
+import org.classnation.dashboardservice.event.SummaryDeltaEvent;
 import org.classnation.dashboardservice.exception.ResourceNotFoundException;
-import org.classnation.dashboardservice.exception.ValidationException;
 import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.DogStatus;
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.regex.Pattern;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,27 +33,35 @@ import java.util.regex.Pattern;
 public class DogService {
 
     private final DogRepository dogRepository;
-    private final ReportServiceClient reportServiceClient;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
-    );
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
 
+    /**
+     * Creates or updates the dog. A non-null {@code ifMatch} must match the dog's current ETag, so a client
+     * overwrites only the version it read; a concurrent write between the check and the commit still fails on the
+     * version column.
+     */
     @Transactional
-    public DogResponse upsertDog(String dogUuid, DogUpsertRequest request) {
+    public Versioned<DogResponse> upsertDog(String dogUuid, DogUpsertRequest request, String ifMatch,
+                                            MediaType representation) {
         log.info("Upserting dog: {}", dogUuid);
 
-        // Validate UUID format
-        if (!UUID_PATTERN.matcher(dogUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + dogUuid);
-        }
+        String uuid = UuidValidator.canonical(dogUuid, "dog UUID");
+
+        Optional<Dog> existing = dogRepository.findByDogUuid(uuid);
+        EntityTags.requireMatch(ifMatch,
+                existing.map(d -> EntityTags.of(d.getId(), d.getVersion(), representation)).orElse(null));
 
-        Dog dog = dogRepository.findByDogUuid(dogUuid)
+        Dog dog = existing
                 .orElse(Dog.builder()
-                        .dogUuid(dogUuid)
+                        .dogUuid(uuid)
                         .isAdopted(false)
                         .build());
 
+        boolean created = dog.getId() == null;
+
         // Update fields
         dog.setShelterName(request.getShelterName());
         dog.setName(request.getName());
@@ -49,53 +70,123 @@ public class DogService {
         dog.setTemperament(request.getTemperament());
         dog.setDiseases(request.getDiseases());
 
-        dog = dogRepository.save(dog);
+        // Flushed so the response carries the version this write produced
+        dog = dogRepository.saveAndFlush(dog);
 
-        // Register with report-service
-        ReportServiceRegisterDogRequest registerRequest = ReportServiceRegisterDogRequest.builder()
-                .name(dog.getName())
-                .gender("Unknown") // Not tracked in dashboard
-                .age(0) // Not tracked in dashboard
-                .species("Unknown") // Not tracked in dashboard
-                .size(mapDogSizeToString(dog.getSize()))
-                .activityLevel(mapActivityToString(dog.getActivity()))
-                .hasMedicalNeeds(dog.getDiseases() != null && !dog.getDiseases().isEmpty())
-                .medicalDescription(dog.getDiseases())
-                .personality(mapTemperamentToString(dog.getTemperament()))
-                .build();
+        if (created) {
+            eventPublisher.publishEvent(SummaryDeltaEvent.dogsCreated(1));
+        }
+
+        // Register with report-service (delivered by the outbox relay after commit)
+        outboxService.enqueue(dog.getDogUuid(), OutboxEventType.REGISTER_DOG, toRegisterDogRequest(dog));
+
+        return new Versioned<>(mapToDogResponse(dog), EntityTags.of(dog.getId(), dog.getVersion(), representation));
+    }
+
+    @Transactional
+    public BulkUpsertResponse bulkUpsertDogs(DogBulkUpsertRequest request) {
+        log.info("Bulk upserting {} dogs", request.getDogs().size());
+
+        // Later entries win when the same UUID appears more than once
+        Map<String, Dog> dogs = new LinkedHashMap<>();
+        for (DogBulkUpsertItem item : request.getDogs()) {
+            // UUIDs come back from the binary column in canonical lower case
+            String dogUuid = UuidValidator.canonical(item.getDogUuid());
+            dogs.put(dogUuid, Dog.builder()
+                    .dogUuid(dogUuid)
+                    .shelterName(item.getShelterName())
+                    .name(item.getName())
+                    .size(item.getSize())
+                    .activity(item.getActivity())
+                    .temperament(item.getTemperament())
+                    .diseases(item.getDiseases())
+                    .isAdopted(false)
+                    .build());
+        }
+
+        Set<String> existing = new HashSet<>();
+        List<String> uuids = new ArrayList<>(dogs.keySet());
+        for (int from = 0; from < uuids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            existing.addAll(dogRepository.findExistingDogUuids(
+                    uuids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, uuids.size()))));
+        }
+
+        List<Dog> inserts = new ArrayList<>();
+        List<Dog> updates = new ArrayList<>();
+        Map<String, ReportServiceRegisterDogRequest> registrations = new LinkedHashMap<>();
+        for (Dog dog : dogs.values()) {
+            (existing.contains(dog.getDogUuid()) ? updates : inserts).add(dog);
+            registrations.put(dog.getDogUuid(), toRegisterDogRequest(dog));
+        }
+
+        dogRepository.batchInsert(inserts);
+        dogRepository.batchUpdate(updates);
 
-        reportServiceClient.registerDog(registerRequest);
+        eventPublisher.publishEvent(SummaryDeltaEvent.dogsCreated(inserts.size()));
 
-        return mapToDogResponse(dog);
+        // Register with report-service (delivered by the outbox relay after commit)
+        outboxService.enqueueAll(OutboxEventType.REGISTER_DOG, registrations);
+
+        return BulkUpsertResponse.builder()
+                .requested(request.getDogs().size())
+                .inserted(inserts.size())
+                .updated(updates.size())
+                .build();
     }
 
+    /**
+     * The dog, or only its ETag when that still matches {@code ifNoneMatch}. The version is read first, so an
+     * unchanged dog is answered without mapping it, and a changed one is loaded in the same transaction.
+     */
     @Transactional(readOnly = true)
-    public DogResponse getDog(String dogUuid) {
+    public Versioned<DogResponse> getDog(String dogUuid, String ifNoneMatch, MediaType representation) {
         log.info("Getting dog: {}", dogUuid);
 
-        if (!UUID_PATTERN.matcher(dogUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + dogUuid);
+        String uuid = UuidValidator.canonical(dogUuid, "dog UUID");
+
+        if (ifNoneMatch != null) {
+            String current = dogRepository.findVersionByDogUuid(uuid)
+                    .map(version -> EntityTags.of(version, representation))
+                    .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + uuid));
+            if (EntityTags.matches(ifNoneMatch, current)) {
+                return Versioned.notModified(current);
+            }
         }
 
-        Dog dog = dogRepository.findByDogUuid(dogUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + dogUuid));
+        Dog dog = dogRepository.findByDogUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + uuid));
+
+        return new Versioned<>(mapToDogResponse(dog), EntityTags.of(dog.getId(), dog.getVersion(), representation));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<DogResponse> listDogs(Boolean isAdopted, LocalDateTime from, LocalDateTime to,
+                                                    String cursor, Integer size) {
+        log.info("Listing dogs: isAdopted={}, from={}, to={}", isAdopted, from, to);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        KeysetCursor position = KeysetCursor.startingAt(cursor, to);
+        LocalDateTime lowerBound = KeysetCursor.lowerBound(from);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Dog> dogs = isAdopted != null
+                ? dogRepository.findPageByStatus(isAdopted, lowerBound, position.timestamp(), position.id(), limit)
+                : dogRepository.findPage(lowerBound, position.timestamp(), position.id(), limit);
 
-        return mapToDogResponse(dog);
+        return KeysetCursor.page(dogs, pageSize, Dog::getCreatedAt, Dog::getId, this::mapToDogResponse);
     }
 
     @Transactional(readOnly = true)
     public AdoptionStatusResponse checkAdoptionStatus(String dogUuid) {
         log.info("Checking adoption status for dog: {}", dogUuid);
 
-        if (!UUID_PATTERN.matcher(dogUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + dogUuid);
-        }
+        String uuid = UuidValidator.canonical(dogUuid, "dog UUID");
 
-        Dog dog = dogRepository.findByDogUuid(dogUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + dogUuid));
+        DogStatus status = dogRepository.findStatusByDogUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + uuid));
 
         return AdoptionStatusResponse.builder()
-                .isAdopted(dog.getIsAdopted())
+                .isAdopted(status.isAdopted())
                 .build();
     }
 
@@ -103,16 +194,21 @@ public class DogService {
     public UpdateAdoptionStatusResponse updateAdoptionStatus(String dogUuid, UpdateAdoptionStatusRequest request) {
         log.info("Updating adoption status for dog: {} to {}", dogUuid, request.getIsAdopted());
 
-        if (!UUID_PATTERN.matcher(dogUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + dogUuid);
-        }
+        String uuid = UuidValidator.canonical(dogUuid, "dog UUID");
+
+        Dog dog = dogRepository.findByDogUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + uuid));
 
-        Dog dog = dogRepository.findByDogUuid(dogUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + dogUuid));
+        boolean changed = !request.getIsAdopted().equals(dog.getIsAdopted());
 
         dog.setIsAdopted(request.getIsAdopted());
         dog = dogRepository.save(dog);
 
+        if (changed) {
+            eventPublisher.publishEvent(new DogAdoptionStatusChangedEvent(uuid, dog.getIsAdopted()));
+            eventPublisher.publishEvent(SummaryDeltaEvent.adoptionChanged(dog.getIsAdopted()));
+        }
+
         // Note: Report service integration for status change reporting would go here
         // but the instructions indicate this should trigger a report generation
         // which is handled separately through the report-service
@@ -123,6 +219,20 @@ public class DogService {
                 .build();
     }
 
+    private ReportServiceRegisterDogRequest toRegisterDogRequest(Dog dog) {
+        return ReportServiceRegisterDogRequest.builder()
+                .name(dog.getName())
+                .gender("Unknown") // Not tracked in dashboard
+                .age(0) // Not tracked in dashboard
+                .species("Unknown") // Not tracked in dashboard
+                .size(mapDogSizeToString(dog.getSize()))
+                .activityLevel(mapActivityToString(dog.getActivity()))
+                .hasMedicalNeeds(dog.getDiseases() != null && !dog.getDiseases().isEmpty())
+                .medicalDescription(dog.getDiseases())
+                .personality(mapTemperamentToString(dog.getTemperament()))
+                .build();
+    }
+
     private DogResponse mapToDogResponse(Dog dog) {
         return DogResponse.builder()
                 .dogUuid(dog.getDogUuid())
@@ -0,0 +1,86 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.exception.PreconditionFailedException;
+import org.classnation.dashboardservice.repository.EntityVersion;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * ETags for dogs and humans, {@code W/"<id>-<version>"} for JSON and {@code W/"<id>-<version>-cbor"} or
+ * {@code W/"<id>-<version>-smile"} for the binary representations, so a cache never answers a CBOR request with a
+ * JSON body it revalidated. Every write path bumps the version column, and the id tells a re-created row apart from
+ * the one a client saw before. The tags are weak because they identify the entity state, not the bytes: every
+ * response carries its own timestamp and request id, and JSON may be gzipped. Both preconditions therefore compare
+ * weakly.
+ */
+final class EntityTags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    // Keyed by media subtype; JSON, the default representation, has no suffix
+    private static final Map<String, String> REPRESENTATION_SUFFIXES = Map.of(
+            "cbor", "-cbor",
+            "x-jackson-smile", "-smile");
+
+    private EntityTags() {
+    }
+
+    static String of(EntityVersion version, MediaType representation) {
+        return of(version.id(), version.version(), representation);
+    }
+
+    static String of(Long id, Long version, MediaType representation) {
+        String suffix = REPRESENTATION_SUFFIXES.getOrDefault(representation.getSubtype(), "");
+        return WEAK_PREFIX + "\"" + id + "-" + version + suffix + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header names {@code current}, comparing weakly; {@code *} matches any existing
+     * entity. Tags of other representations of the same state do not match.
+     */
+    static boolean matches(String ifNoneMatch, String current) {
+        return matches(ifNoneMatch, current, EntityTags::opaqueTag);
+    }
+
+    /**
+     * Checks an If-Match header against the current ETag, {@code null} when the entity does not exist. The update
+     * only depends on the entity state, so a tag read in any representation matches.
+     */
+    static void requireMatch(String ifMatch, String current) {
+        if (ifMatch == null || matches(ifMatch, current, EntityTags::entityState)) {
+            return;
+        }
+        throw new PreconditionFailedException(current == null
+                ? "If-Match given but the resource does not exist"
+                : "The resource was modified since it was read (current ETag " + current + ")");
+    }
+
+    private static boolean matches(String header, String current, UnaryOperator<String> comparable) {
+        if (header == null || current == null) {
+            return false;
+        }
+        for (String tag : header.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.equals("*") || comparable.apply(candidate).equals(comparable.apply(current))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+
+    private static String entityState(String tag) {
+        String opaque = opaqueTag(tag);
+        for (String suffix : REPRESENTATION_SUFFIXES.values()) {
+            if (opaque.endsWith(suffix + "\"")) {
+                return opaque.substring(0, opaque.length() - suffix.length() - 1) + "\"";
+            }
+        }
+        return opaque;
+    }
+}
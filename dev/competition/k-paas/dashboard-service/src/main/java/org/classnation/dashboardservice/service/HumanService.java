@@ -6,17 +6,36 @@ import org.classnation.dashboardservice.client.ReportServiceClient;
 import org.classnation.dashboardservice.client.dto.ReportServiceRegisterSeniorRequest;
 import org.classnation.dashboardservice.dto.*;
 import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.event.HumansUpdatedEvent;
+import org.classnation.dashboardservice.event.SummaryDeltaEvent;
+import org.classnation.dashboardservice.exception.ExternalServiceException;
 import org.classnation.dashboardservice.exception.ResourceNotFoundException;
-import org.classnation.dashboardservice.exception.ValidationException;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
 import org.classnation.dashboardservice.repository.HumanRepository;
+import org.classnation.dashboardservice.repository.HumanStatus;
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 @RequiredArgsConstructor
@@ -25,27 +44,40 @@ public class HumanService {
 
     private final HumanRepository humanRepository;
     private final ReportServiceClient reportServiceClient;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LatestDangerFetcher latestDangerFetcher;
 
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
-    );
+    @Value("${dashboard.latest-danger.batch-timeout:10s}")
+    private Duration latestDangerBatchTimeout;
 
+    private static final int IN_QUERY_CHUNK_SIZE = 1000;
+
+    /**
+     * Creates or updates the human. A non-null {@code ifMatch} must match the human's current ETag, so a client
+     * overwrites only the version it read; a concurrent write between the check and the commit still fails on the
+     * version column.
+     */
     @Transactional
-    public HumanResponse upsertHuman(String humanUuid, HumanUpsertRequest request) {
+    public Versioned<HumanResponse> upsertHuman(String humanUuid, HumanUpsertRequest request, String ifMatch,
+                                                MediaType representation) {
         log.info("Upserting human: {}", humanUuid);
 
-        // Validate UUID format
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
-        Human human = humanRepository.findByHumanUuid(humanUuid)
+        Optional<Human> existing = humanRepository.findByHumanUuid(uuid);
+        EntityTags.requireMatch(ifMatch,
+                existing.map(h -> EntityTags.of(h.getId(), h.getVersion(), representation)).orElse(null));
+
+        Human human = existing
                 .orElse(Human.builder()
-                        .humanUuid(humanUuid)
+                        .humanUuid(uuid)
                         .initialConsulted(false)
                         .isMatched(false)
                         .build());
 
+        boolean created = human.getId() == null;
+
         // Update fields
         human.setName(request.getName());
         human.setContact(request.getContact());
@@ -55,24 +87,104 @@ public class HumanService {
         human.setPetExperience(request.getPetExperience());
         human.setOutingHours(request.getOutingHours());
 
-        human = humanRepository.save(human);
+        // Flushed so the response carries the version this write produced
+        human = humanRepository.saveAndFlush(human);
+
+        eventPublisher.publishEvent(HumansUpdatedEvent.of(uuid));
+        if (created) {
+            eventPublisher.publishEvent(SummaryDeltaEvent.humansCreated(1));
+        }
 
-        return mapToHumanResponse(human);
+        return new Versioned<>(mapToHumanResponse(human),
+                EntityTags.of(human.getId(), human.getVersion(), representation));
+    }
+
+    @Transactional
+    public BulkUpsertResponse bulkUpsertHumans(HumanBulkUpsertRequest request) {
+        log.info("Bulk upserting {} humans", request.getHumans().size());
+
+        // Later entries win when the same UUID appears more than once
+        Map<String, Human> humans = new LinkedHashMap<>();
+        for (HumanBulkUpsertItem item : request.getHumans()) {
+            // UUIDs come back from the binary column in canonical lower case
+            String humanUuid = UuidValidator.canonical(item.getHumanUuid());
+            humans.put(humanUuid, Human.builder()
+                    .humanUuid(humanUuid)
+                    .name(item.getName())
+                    .contact(item.getContact())
+                    .address(item.getAddress())
+                    .homeSize(item.getHomeSize())
+                    .mobility(item.getMobility())
+                    .petExperience(item.getPetExperience())
+                    .outingHours(item.getOutingHours())
+                    .initialConsulted(false)
+                    .isMatched(false)
+                    .build());
+        }
+
+        Set<String> existing = new HashSet<>();
+        List<String> uuids = new ArrayList<>(humans.keySet());
+        for (int from = 0; from < uuids.size(); from += IN_QUERY_CHUNK_SIZE) {
+            existing.addAll(humanRepository.findExistingHumanUuids(
+                    uuids.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, uuids.size()))));
+        }
+
+        List<Human> inserts = new ArrayList<>();
+        List<Human> updates = new ArrayList<>();
+        for (Human human : humans.values()) {
+            (existing.contains(human.getHumanUuid()) ? updates : inserts).add(human);
+        }
+
+        humanRepository.batchInsert(inserts);
+        humanRepository.batchUpdate(updates);
+
+        eventPublisher.publishEvent(new HumansUpdatedEvent(Set.copyOf(humans.keySet())));
+        eventPublisher.publishEvent(SummaryDeltaEvent.humansCreated(inserts.size()));
+
+        return BulkUpsertResponse.builder()
+                .requested(request.getHumans().size())
+                .inserted(inserts.size())
+                .updated(updates.size())
+                .build();
+    }
+
+    /**
+     * The human, or only its ETag when that still matches {@code ifNoneMatch}. The version is read first, so an
+     * unchanged human is answered without mapping it, and a changed one is loaded in the same transaction.
+     */
+    @Transactional(readOnly = true)
+    public Versioned<HumanResponse> getHuman(String humanUuid, String ifNoneMatch, MediaType representation) {
+        log.info("Getting human: {}", humanUuid);
+
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
+
+        if (ifNoneMatch != null) {
+            String current = humanRepository.findVersionByHumanUuid(uuid)
+                    .map(version -> EntityTags.of(version, representation))
+                    .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + uuid));
+            if (EntityTags.matches(ifNoneMatch, current)) {
+                return Versioned.notModified(current);
+            }
+        }
+
+        Human human = humanRepository.findByHumanUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + uuid));
+
+        return new Versioned<>(mapToHumanResponse(human),
+                EntityTags.of(human.getId(), human.getVersion(), representation));
     }
 
     @Transactional(readOnly = true)
     public InitialConsultedResponse checkInitialConsulted(String humanUuid) {
         log.info("Checking initial consulted status for human: {}", humanUuid);
 
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
-        Human human = humanRepository.findByHumanUuid(humanUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + humanUuid));
+        HumanStatus status = humanRepository.findStatusByHumanUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + uuid));
 
         return InitialConsultedResponse.builder()
-                .initialConsulted(human.getInitialConsulted())
+                .initialConsulted(status.initialConsulted())
                 .build();
     }
 
@@ -80,14 +192,12 @@ public class HumanService {
     public InitialConsultResponse registerInitialConsult(String humanUuid) {
         log.info("Registering initial consultation for human: {}", humanUuid);
 
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
-        Human human = humanRepository.findByHumanUuid(humanUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + humanUuid));
+        Human human = humanRepository.findByHumanUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + uuid));
 
-        // Call report-service to register senior
+        // Register senior with report-service (delivered by the outbox relay after commit)
         List<Map<String, String>> conversationHistory = new ArrayList<>();
         Map<String, String> conversation = new HashMap<>();
         conversation.put("role", "system");
@@ -96,51 +206,158 @@ public class HumanService {
 
         ReportServiceRegisterSeniorRequest registerRequest = ReportServiceRegisterSeniorRequest.builder()
                 .conversationHistory(conversationHistory)
-                .userId(humanUuid)
+                .userId(uuid)
                 .build();
 
-        reportServiceClient.registerSenior(registerRequest);
+        outboxService.enqueue(uuid, OutboxEventType.REGISTER_SENIOR, registerRequest);
 
         // Update initial_consulted flag
+        boolean firstConsult = !human.getInitialConsulted();
         human.setInitialConsulted(true);
         human = humanRepository.save(human);
 
+        if (firstConsult) {
+            eventPublisher.publishEvent(SummaryDeltaEvent.humanConsulted());
+        }
+
         return InitialConsultResponse.builder()
                 .humanUuid(human.getHumanUuid())
                 .initialConsulted(human.getInitialConsulted())
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageResponse<HumanResponse> listHumans(Boolean isMatched, LocalDateTime from, LocalDateTime to,
+                                                        String cursor, Integer size) {
+        log.info("Listing humans: isMatched={}, from={}, to={}", isMatched, from, to);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        KeysetCursor position = KeysetCursor.startingAt(cursor, to);
+        LocalDateTime lowerBound = KeysetCursor.lowerBound(from);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Human> humans = isMatched != null
+                ? humanRepository.findPageByStatus(isMatched, lowerBound, position.timestamp(), position.id(), limit)
+                : humanRepository.findPage(lowerBound, position.timestamp(), position.id(), limit);
+
+        return KeysetCursor.page(humans, pageSize, Human::getCreatedAt, Human::getId, this::mapToHumanResponse);
+    }
+
     @Transactional(readOnly = true)
     public MatchStatusResponse checkMatchStatus(String humanUuid) {
         log.info("Checking match status for human: {}", humanUuid);
 
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
-        Human human = humanRepository.findByHumanUuid(humanUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + humanUuid));
+        HumanStatus status = humanRepository.findStatusByHumanUuid(uuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + uuid));
 
         return MatchStatusResponse.builder()
-                .isMatched(human.getIsMatched())
+                .isMatched(status.isMatched())
                 .build();
     }
 
     public LatestDangerResponse getLatestDanger(String humanUuid) {
         log.info("Getting latest danger report for human: {}", humanUuid);
 
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
         // Verify human exists
-        if (!humanRepository.existsByHumanUuid(humanUuid)) {
-            throw new ResourceNotFoundException("Human not found: " + humanUuid);
+        if (!humanRepository.existsByHumanUuid(uuid)) {
+            throw new ResourceNotFoundException("Human not found: " + uuid);
         }
 
         // Proxy to report-service
-        return reportServiceClient.getLatestDangerReport(humanUuid);
+        return reportServiceClient.getLatestDangerReport(uuid);
+    }
+
+    /**
+     * Looks up the latest danger report for many humans at once. Existence is checked with IN queries and
+     * report-service is called in parallel through {@link LatestDangerFetcher}. A failing item is reported in its
+     * own entry and never fails the batch; items still pending when the batch timeout elapses are reported as
+     * unavailable.
+     */
+    public LatestDangerBatchResponse getLatestDangerBatch(LatestDangerBatchRequest request) {
+        log.info("Getting latest danger reports for {} humans", request.getHumanUuids().size());
+
+        // Results keep the request order; duplicates are answered once
+        Map<String, LatestDangerBatchItem> results = new LinkedHashMap<>();
+        List<String> valid = new ArrayList<>();
+        for (String requested : request.getHumanUuids()) {
+            if (!UuidValidator.isValid(requested)) {
+                results.putIfAbsent(requested,
+                        failedItem(requested, "VALIDATION_ERROR", "Invalid UUID format: " + requested));
+                continue;
+            }
+
+            String humanUuid = UuidValidator.canonical(requested);
+            if (!results.containsKey(humanUuid)) {
+                results.put(humanUuid, null);
+                valid.add(humanUuid);
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < valid.size(); from += IN_QUERY_CHUNK_SIZE) {
+            existing.addAll(humanRepository.findExistingHumanUuids(
+                    valid.subList(from, Math.min(from + IN_QUERY_CHUNK_SIZE, valid.size()))));
+        }
+
+        Map<String, CompletableFuture<LatestDangerResponse>> pending = new LinkedHashMap<>();
+        for (String humanUuid : valid) {
+            if (existing.contains(humanUuid)) {
+                pending.put(humanUuid, latestDangerFetcher.fetch(humanUuid));
+            } else {
+                results.put(humanUuid, failedItem(humanUuid, "RESOURCE_NOT_FOUND", "Human not found: " + humanUuid));
+            }
+        }
+
+        long deadline = System.nanoTime() + latestDangerBatchTimeout.toNanos();
+        for (Map.Entry<String, CompletableFuture<LatestDangerResponse>> entry : pending.entrySet()) {
+            results.put(entry.getKey(), awaitLatestDanger(entry.getKey(), entry.getValue(), deadline));
+        }
+
+        int failed = (int) results.values().stream().filter(item -> item.getError() != null).count();
+
+        return LatestDangerBatchResponse.builder()
+                .results(new ArrayList<>(results.values()))
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .build();
+    }
+
+    private LatestDangerBatchItem awaitLatestDanger(String humanUuid, CompletableFuture<LatestDangerResponse> future,
+                                                    long deadline) {
+        try {
+            LatestDangerResponse report = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return LatestDangerBatchItem.builder()
+                    .humanUuid(humanUuid)
+                    .report(report)
+                    .build();
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            return failedItem(humanUuid, "SERVICE_UNAVAILABLE", "Timed out waiting for report-service");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failedItem(humanUuid, "SERVICE_UNAVAILABLE", "Interrupted waiting for report-service");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ServiceUnavailableException) {
+                return failedItem(humanUuid, "SERVICE_UNAVAILABLE", cause.getMessage());
+            }
+            if (cause instanceof ExternalServiceException) {
+                return failedItem(humanUuid, "EXTERNAL_SERVICE_FAILURE", cause.getMessage());
+            }
+            log.error("Unexpected error getting latest danger report for human: {}", humanUuid, cause);
+            return failedItem(humanUuid, "INTERNAL_ERROR", "An unexpected error occurred");
+        }
+    }
+
+    private LatestDangerBatchItem failedItem(String humanUuid, String type, String detail) {
+        return LatestDangerBatchItem.builder()
+                .humanUuid(humanUuid)
+                .error(ErrorDetail.builder().type(type).detail(detail).build())
+                .build();
     }
 
     private HumanResponse mapToHumanResponse(Human human) {
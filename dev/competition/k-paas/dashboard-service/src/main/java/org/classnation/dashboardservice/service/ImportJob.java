@@ -0,0 +1,100 @@
+package org.classnation.dashboardservice.service;
+
+import lombok.Getter;
+import org.classnation.dashboardservice.dto.ImportFormat;
+import org.classnation.dashboardservice.dto.ImportProgressResponse;
+import org.classnation.dashboardservice.dto.ImportRowError;
+import org.classnation.dashboardservice.dto.ImportStatus;
+import org.classnation.dashboardservice.dto.ImportTarget;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a running import. Written by a single worker thread and read by progress queries.
+ */
+@Getter
+public class ImportJob {
+
+    private final String importId;
+    private final ImportTarget target;
+    private final ImportFormat format;
+    private final int maxReportedErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile boolean errorsTruncated;
+    private volatile ImportStatus status = ImportStatus.RUNNING;
+    private volatile String failureReason;
+    private volatile LocalDateTime finishedAt;
+
+    public ImportJob(String importId, ImportTarget target, ImportFormat format, int maxReportedErrors) {
+        this.importId = importId;
+        this.target = target;
+        this.format = format;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void rowProcessed() {
+        processedRows.incrementAndGet();
+    }
+
+    void rowsImported(long count) {
+        importedRows.addAndGet(count);
+    }
+
+    void rowFailed(long line, String error) {
+        rowsFailed(1, line, error);
+    }
+
+    void rowsFailed(long count, long line, String error) {
+        failedRows.addAndGet(count);
+        synchronized (errors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportRowError.builder().line(line).error(error).build());
+            } else {
+                // Counting failed rows against reported errors would not work: a failed chunk is one error
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.COMPLETED;
+    }
+
+    void fail(String reason) {
+        failureReason = reason;
+        finishedAt = LocalDateTime.now();
+        status = ImportStatus.FAILED;
+    }
+
+    ImportProgressResponse toResponse() {
+        List<ImportRowError> reported;
+        synchronized (errors) {
+            reported = List.copyOf(errors);
+        }
+
+        return ImportProgressResponse.builder()
+                .importId(importId)
+                .target(target)
+                .format(format)
+                .status(status)
+                .processedRows(processedRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .errors(reported)
+                .errorsTruncated(errorsTruncated)
+                .failureReason(failureReason)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
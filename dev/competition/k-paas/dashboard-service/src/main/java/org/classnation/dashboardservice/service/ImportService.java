@@ -0,0 +1,91 @@
+package org.classnation.dashboardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.ImportFormat;
+import org.classnation.dashboardservice.dto.ImportProgressResponse;
+import org.classnation.dashboardservice.dto.ImportTarget;
+import org.classnation.dashboardservice.exception.ResourceNotFoundException;
+import org.classnation.dashboardservice.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class ImportService {
+
+    private final ImportWorker importWorker;
+    private final int maxReportedErrors;
+    private final Cache<String, ImportJob> jobs;
+
+    public ImportService(
+            ImportWorker importWorker,
+            @Value("${dashboard.import.max-reported-errors:1000}") int maxReportedErrors,
+            @Value("${dashboard.import.progress-retention:24h}") Duration progressRetention) {
+        this.importWorker = importWorker;
+        this.maxReportedErrors = maxReportedErrors;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(progressRetention)
+                .build();
+    }
+
+    public ImportProgressResponse startImport(ImportTarget target, MultipartFile file, ImportFormat format) {
+        if (file == null || file.isEmpty()) {
+            throw new ValidationException("Import file is empty");
+        }
+
+        ImportFormat resolvedFormat = format != null ? format : detectFormat(file);
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), target, resolvedFormat, maxReportedErrors);
+
+        // The multipart temp file is deleted when the request ends, so hand the worker its own copy
+        Path copy;
+        try {
+            copy = Files.createTempFile("dashboard-import-", ".tmp");
+            file.transferTo(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store import file", e);
+        }
+
+        jobs.put(job.getImportId(), job);
+        importWorker.run(job, copy);
+
+        log.info("Import {} accepted: target={}, format={}, size={} bytes",
+                job.getImportId(), target, resolvedFormat, file.getSize());
+
+        return job.toResponse();
+    }
+
+    public ImportProgressResponse getProgress(String importId) {
+        ImportJob job = jobs.getIfPresent(importId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Import not found: " + importId);
+        }
+        return job.toResponse();
+    }
+
+    private ImportFormat detectFormat(MultipartFile file) {
+        String contentType = file.getContentType() != null ? file.getContentType().toLowerCase(Locale.ROOT) : "";
+        String filename = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+
+        if (contentType.startsWith("text/csv") || filename.endsWith(".csv")) {
+            return ImportFormat.CSV;
+        }
+        if (contentType.startsWith("application/x-ndjson") || filename.endsWith(".ndjson")
+                || filename.endsWith(".jsonl")) {
+            return ImportFormat.NDJSON;
+        }
+        throw new ValidationException("Cannot detect import format; pass format=CSV or format=NDJSON");
+    }
+}
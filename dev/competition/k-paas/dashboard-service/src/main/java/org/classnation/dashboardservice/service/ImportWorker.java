@@ -0,0 +1,224 @@
+package org.classnation.dashboardservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.dto.DogBulkUpsertItem;
+import org.classnation.dashboardservice.dto.DogBulkUpsertRequest;
+import org.classnation.dashboardservice.dto.HumanBulkUpsertItem;
+import org.classnation.dashboardservice.dto.HumanBulkUpsertRequest;
+import org.classnation.dashboardservice.dto.ImportFormat;
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams an uploaded file row by row, validates each row and writes valid rows in fixed-size chunks through
+ * the bulk upsert path. Only one chunk is held in memory at a time, whatever the file size.
+ */
+@Component
+@Slf4j
+public class ImportWorker {
+
+    private final DogService dogService;
+    private final HumanService humanService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public ImportWorker(
+            DogService dogService,
+            HumanService humanService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${dashboard.import.chunk-size:500}") int chunkSize) {
+        this.dogService = dogService;
+        this.humanService = humanService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .build();
+    }
+
+    @Async
+    public void run(ImportJob job, Path file) {
+        log.info("Starting import {}: target={}, format={}", job.getImportId(), job.getTarget(), job.getFormat());
+
+        try {
+            switch (job.getTarget()) {
+                case DOGS -> process(job, file, DogBulkUpsertItem.class, DogBulkUpsertItem::getDogUuid,
+                        chunk -> dogService.bulkUpsertDogs(new DogBulkUpsertRequest(chunk)).getRequested());
+                case HUMANS -> process(job, file, HumanBulkUpsertItem.class, HumanBulkUpsertItem::getHumanUuid,
+                        chunk -> humanService.bulkUpsertHumans(new HumanBulkUpsertRequest(chunk)).getRequested());
+            }
+            job.complete();
+
+            log.info("Import {} completed: processed={}, imported={}, failed={}", job.getImportId(),
+                    job.getProcessedRows().get(), job.getImportedRows().get(), job.getFailedRows().get());
+        } catch (Exception e) {
+            log.error("Import {} failed", job.getImportId(), e);
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file, e);
+            }
+        }
+    }
+
+    private <T> void process(ImportJob job, Path file, Class<T> itemType, Function<T, String> uuidOf,
+                             Function<List<T>, Integer> writer) throws IOException {
+        ChunkWriter<T> chunkWriter = new ChunkWriter<>(job, writer);
+
+        if (job.getFormat() == ImportFormat.CSV) {
+            readCsv(job, file, itemType, uuidOf, chunkWriter);
+        } else {
+            readNdjson(job, file, itemType, uuidOf, chunkWriter);
+        }
+
+        chunkWriter.flush();
+    }
+
+    private <T> void readNdjson(ImportJob job, Path file, Class<T> itemType, Function<T, String> uuidOf,
+                                Consumer<Row<T>> sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                job.rowProcessed();
+                try {
+                    accept(job, lineNumber, objectMapper.readValue(line, itemType), uuidOf, sink);
+                } catch (JsonProcessingException e) {
+                    job.rowFailed(lineNumber, "Invalid row: " + e.getOriginalMessage());
+                }
+            }
+        }
+    }
+
+    private <T> void readCsv(ImportJob job, Path file, Class<T> itemType, Function<T, String> uuidOf,
+                             Consumer<Row<T>> sink) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+             MappingIterator<Map<String, String>> rows = csvMapper.readerForMapOf(String.class)
+                     .with(CsvSchema.emptySchema().withHeader())
+                     .readValues(reader)) {
+
+            // Line 1 is the header
+            long lineNumber = 1;
+
+            while (rows.hasNextValue()) {
+                lineNumber++;
+                job.rowProcessed();
+
+                Map<String, String> row;
+                try {
+                    row = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    // The iterator skips the rest of the broken row on the next hasNextValue()
+                    job.rowFailed(lineNumber, "Invalid row: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                try {
+                    accept(job, lineNumber, objectMapper.convertValue(row, itemType), uuidOf, sink);
+                } catch (IllegalArgumentException e) {
+                    job.rowFailed(lineNumber, "Invalid value: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private <T> void accept(ImportJob job, long lineNumber, T item, Function<T, String> uuidOf,
+                            Consumer<Row<T>> sink) {
+        Set<ConstraintViolation<T>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            job.rowFailed(lineNumber, violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return;
+        }
+
+        String uuid = uuidOf.apply(item);
+        if (!UuidValidator.isValid(uuid)) {
+            job.rowFailed(lineNumber, "Invalid UUID format: " + uuid);
+            return;
+        }
+
+        sink.accept(new Row<>(lineNumber, item));
+    }
+
+    private record Row<T>(long line, T item) {
+    }
+
+    private class ChunkWriter<T> implements Consumer<Row<T>> {
+
+        private final ImportJob job;
+        private final Function<List<T>, Integer> writer;
+        private final List<T> items = new ArrayList<>(chunkSize);
+        private long firstLine;
+
+        ChunkWriter(ImportJob job, Function<List<T>, Integer> writer) {
+            this.job = job;
+            this.writer = writer;
+        }
+
+        @Override
+        public void accept(Row<T> row) {
+            if (items.isEmpty()) {
+                firstLine = row.line();
+            }
+            items.add(row.item());
+
+            if (items.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (items.isEmpty()) {
+                return;
+            }
+
+            try {
+                // Each chunk commits in its own transaction
+                job.rowsImported(writer.apply(List.copyOf(items)));
+            } catch (Exception e) {
+                log.error("Import {} chunk starting at line {} failed", job.getImportId(), firstLine, e);
+                job.rowsFailed(items.size(), firstLine, "Chunk of " + items.size() + " rows starting at line "
+                        + firstLine + " failed: " + e.getMessage());
+            }
+            items.clear();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.dto.CursorPageResponse;
+import org.classnation.dashboardservice.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque position in a (timestamp DESC, id DESC) ordered listing. Pages continue strictly after the last row
+ * returned, so deep pages cost the same as the first one.
+ */
+record KeysetCursor(LocalDateTime timestamp, long id) {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private static final LocalDateTime MIN_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /**
+     * Starting position: before everything up to {@code to}, or the decoded cursor when one is given.
+     */
+    static KeysetCursor startingAt(String cursor, LocalDateTime to) {
+        if (cursor == null || cursor.isBlank()) {
+            return new KeysetCursor(to != null ? to : MAX_TIMESTAMP, Long.MAX_VALUE);
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ValidationException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static LocalDateTime lowerBound(LocalDateTime from) {
+        return from != null ? from : MIN_TIMESTAMP;
+    }
+
+    static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Size parameter must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code size + 1} as limit; the extra row only signals a next page.
+     */
+    static <E, R> CursorPageResponse<R> page(List<E> rows, int size, Function<E, LocalDateTime> timestampOf,
+                                             Function<E, Long> idOf, Function<E, R> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(timestampOf.apply(last), idOf.apply(last)).encode();
+        }
+
+        return CursorPageResponse.<R>builder()
+                .items(pageRows.stream().map(mapper).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((timestamp + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
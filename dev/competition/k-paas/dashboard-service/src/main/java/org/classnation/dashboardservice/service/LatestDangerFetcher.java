@@ -0,0 +1,134 @@
+package org.classnation.dashboardservice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.dto.LatestDangerResponse;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fetches latest danger reports from report-service on a fixed pool, which caps the number of concurrent
+ * report-service calls across all batch requests. At most {@code max-queue} lookups wait for a thread; beyond
+ * that a lookup fails at once as unavailable. A request for a human whose report is already being fetched joins
+ * the in-flight call instead of issuing another one, and the call is cancelled once every caller waiting on it
+ * has cancelled.
+ */
+@Component
+@Slf4j
+public class LatestDangerFetcher {
+
+    private final ReportServiceClient reportServiceClient;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<String, Fetch> inFlight = new ConcurrentHashMap<>();
+
+    public LatestDangerFetcher(
+            ReportServiceClient reportServiceClient,
+            @Value("${dashboard.latest-danger.parallelism:16}") int parallelism,
+            @Value("${dashboard.latest-danger.max-queue:2000}") int maxQueue) {
+        this.reportServiceClient = reportServiceClient;
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueue), new CustomizableThreadFactory("latest-danger-"));
+    }
+
+    public CompletableFuture<LatestDangerResponse> fetch(String humanUuid) {
+        Fetch fetch = inFlight.compute(humanUuid, (uuid, current) ->
+                current != null && current.join() ? current : new Fetch(uuid));
+        fetch.startOnce();
+
+        // Callers get a view so a timed-out caller cannot complete the shared future for the others
+        return fetch.view();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * One report-service call shared by every caller that asked for the same human while it was in flight.
+     */
+    private final class Fetch {
+
+        private final String humanUuid;
+        private final CompletableFuture<LatestDangerResponse> result = new CompletableFuture<>();
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private final AtomicBoolean submitted = new AtomicBoolean();
+        private volatile Future<?> task;
+
+        Fetch(String humanUuid) {
+            this.humanUuid = humanUuid;
+        }
+
+        /**
+         * Adds a waiter, unless every earlier waiter has already cancelled and the call is being torn down.
+         */
+        boolean join() {
+            return waiters.getAndUpdate(count -> count == 0 ? 0 : count + 1) > 0;
+        }
+
+        void startOnce() {
+            if (!submitted.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                task = executor.submit(this::run);
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(humanUuid, this);
+                result.completeExceptionally(new ServiceUnavailableException(
+                        "Too many report-service lookups pending", e));
+            }
+        }
+
+        CompletableFuture<LatestDangerResponse> view() {
+            CompletableFuture<LatestDangerResponse> view = result.copy();
+            view.whenComplete((report, error) -> {
+                if (view.isCancelled()) {
+                    leave();
+                }
+            });
+            return view;
+        }
+
+        private void run() {
+            try {
+                if (!result.isDone()) {
+                    result.complete(reportServiceClient.getLatestDangerReport(humanUuid));
+                }
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                inFlight.remove(humanUuid, this);
+            }
+        }
+
+        private void leave() {
+            if (waiters.decrementAndGet() > 0 || result.isDone()) {
+                return;
+            }
+
+            inFlight.remove(humanUuid, this);
+            result.cancel(false);
+            Future<?> running = task;
+            if (running != null) {
+                // Interrupting the pool thread aborts the blocking report-service call
+                running.cancel(true);
+            }
+            log.debug("Cancelled latest danger lookup for human {}: no caller is waiting", humanUuid);
+        }
+    }
+}
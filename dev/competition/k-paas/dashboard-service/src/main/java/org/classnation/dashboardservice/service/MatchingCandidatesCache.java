@@ -0,0 +1,155 @@
+package org.classnation.dashboardservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.dto.MatchingCandidateResponse;
+import org.classnation.dashboardservice.dto.MatchingCandidatesResponse;
+import org.classnation.dashboardservice.event.DogAdoptionStatusChangedEvent;
+import org.classnation.dashboardservice.event.DogRegisteredEvent;
+import org.classnation.dashboardservice.event.HumansUpdatedEvent;
+import org.classnation.dashboardservice.exception.ExternalServiceException;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Caches report-service matching candidates per (humanUuid, top).
+ * <p>
+ * Entries are fresh for {@code fresh-ttl} and kept for {@code stale-ttl}; a stale entry is served instead of an
+ * error while the reportService circuit is open or the refresh fails. Entries are dropped when the human changes
+ * or a listed candidate is adopted. A dog registration or a dog back on the market can change anyone's ranking,
+ * so those only mark every entry stale: each is refreshed on its next read and still serves as the fallback.
+ */
+@Component
+@Slf4j
+public class MatchingCandidatesCache {
+
+    private final ReportServiceClient reportServiceClient;
+    private final CircuitBreaker reportServiceCircuitBreaker;
+    private final boolean enabled;
+    private final Duration freshTtl;
+    private final Cache<CandidatesKey, CachedCandidates> cache;
+    private final Counter staleServed;
+    private volatile Instant staleBefore = Instant.MIN;
+
+    public MatchingCandidatesCache(
+            ReportServiceClient reportServiceClient,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.matching-cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.matching-cache.max-size:10000}") long maxSize,
+            @Value("${dashboard.matching-cache.fresh-ttl:5m}") Duration freshTtl,
+            @Value("${dashboard.matching-cache.stale-ttl:1h}") Duration staleTtl) {
+        this.reportServiceClient = reportServiceClient;
+        this.reportServiceCircuitBreaker = circuitBreakerRegistry.circuitBreaker("reportService");
+        this.enabled = enabled;
+        this.freshTtl = freshTtl;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(staleTtl)
+                .recordStats()
+                .build();
+        this.staleServed = Counter.builder("matching.candidates.cache.stale")
+                .description("Matching candidate responses served stale because report-service was unavailable")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "matchingCandidates");
+    }
+
+    public MatchingCandidatesResponse getCandidates(String humanUuid, int top) {
+        if (!enabled) {
+            return reportServiceClient.getMatchingCandidates(humanUuid, top);
+        }
+
+        CandidatesKey key = new CandidatesKey(humanUuid, top);
+        CachedCandidates cached = cache.getIfPresent(key);
+
+        if (cached != null && cached.isFresh(freshTtl, staleBefore)) {
+            return cached.response();
+        }
+
+        // Don't wait on a call the circuit breaker will reject anyway
+        if (cached != null && reportServiceCircuitBreaker.getState() == CircuitBreaker.State.OPEN) {
+            return serveStale(humanUuid, cached);
+        }
+
+        try {
+            // Stamped with the request time, so a change that lands while the call is in flight marks it stale
+            Instant requestedAt = Instant.now();
+            MatchingCandidatesResponse response = reportServiceClient.getMatchingCandidates(humanUuid, top);
+            cache.put(key, new CachedCandidates(response, requestedAt));
+            return response;
+        } catch (ServiceUnavailableException | ExternalServiceException e) {
+            if (cached == null) {
+                throw e;
+            }
+            return serveStale(humanUuid, cached);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onHumansUpdated(HumansUpdatedEvent event) {
+        cache.asMap().keySet().removeIf(key -> event.humanUuids().contains(key.humanUuid()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDogAdoptionStatusChanged(DogAdoptionStatusChangedEvent event) {
+        if (!event.adopted()) {
+            // A dog back on the market can become a candidate for anyone
+            markAllStale();
+            return;
+        }
+        cache.asMap().values().removeIf(cached -> cached.contains(event.dogUuid()));
+    }
+
+    @EventListener
+    public void onDogRegistered(DogRegisteredEvent event) {
+        // A new or re-registered dog can change the ranking for anyone
+        markAllStale();
+    }
+
+    private void markAllStale() {
+        staleBefore = Instant.now();
+    }
+
+    private MatchingCandidatesResponse serveStale(String humanUuid, CachedCandidates cached) {
+        log.warn("Serving stale matching candidates for human {} fetched at {}", humanUuid, cached.fetchedAt());
+        staleServed.increment();
+        return cached.response();
+    }
+
+    private record CandidatesKey(String humanUuid, int top) {
+    }
+
+    private record CachedCandidates(MatchingCandidatesResponse response, Instant fetchedAt) {
+
+        boolean isFresh(Duration freshTtl, Instant staleBefore) {
+            return fetchedAt.isAfter(staleBefore) && fetchedAt.plus(freshTtl).isAfter(Instant.now());
+        }
+
+        boolean contains(String dogUuid) {
+            if (response == null || response.getCandidates() == null) {
+                return false;
+            }
+            for (MatchingCandidateResponse candidate : response.getCandidates()) {
+                if (dogUuid.equals(candidate.getDogUuid())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -2,24 +2,30 @@ package org.classnation.dashboardservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.classnation.dashboardservice.client.ReportServiceClient;
 import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionRequest;
 import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionResponse;
 import org.classnation.dashboardservice.dto.*;
-import org.classnation.dashboardservice.entity.Dog;
-import org.classnation.dashboardservice.entity.Human;
 import org.classnation.dashboardservice.entity.Matching;
+import org.classnation.dashboardservice.entity.MatchingStatus;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.event.DogAdoptionStatusChangedEvent;
+import org.classnation.dashboardservice.event.HumansUpdatedEvent;
+import org.classnation.dashboardservice.event.SummaryDeltaEvent;
 import org.classnation.dashboardservice.exception.ConflictException;
 import org.classnation.dashboardservice.exception.ResourceNotFoundException;
 import org.classnation.dashboardservice.exception.ValidationException;
 import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.DogStatus;
 import org.classnation.dashboardservice.repository.HumanRepository;
 import org.classnation.dashboardservice.repository.MatchingRepository;
+import org.classnation.dashboardservice.validation.UuidValidator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.regex.Pattern;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -29,19 +35,14 @@ public class MatchingService {
     private final HumanRepository humanRepository;
     private final DogRepository dogRepository;
     private final MatchingRepository matchingRepository;
-    private final ReportServiceClient reportServiceClient;
-
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-            "^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$"
-    );
+    private final OutboxService outboxService;
+    private final MatchingCandidatesCache matchingCandidatesCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MatchingCandidatesResponse getMatchingCandidates(String humanUuid, Integer top) {
         log.info("Getting matching candidates for human: {}, top: {}", humanUuid, top);
 
-        // Validate UUID format
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid UUID format: " + humanUuid);
-        }
+        String uuid = UuidValidator.canonical(humanUuid, "human UUID");
 
         // Validate top parameter (1-3 range)
         if (top == null) {
@@ -52,85 +53,175 @@ public class MatchingService {
         }
 
         // Verify human exists
-        if (!humanRepository.existsByHumanUuid(humanUuid)) {
-            throw new ResourceNotFoundException("Human not found: " + humanUuid);
+        if (!humanRepository.existsByHumanUuid(uuid)) {
+            throw new ResourceNotFoundException("Human not found: " + uuid);
         }
 
-        // Proxy to report-service
-        return reportServiceClient.getMatchingCandidates(humanUuid, top);
+        // Proxy to report-service (served from cache when possible)
+        return matchingCandidatesCache.getCandidates(uuid, top);
     }
 
     @Transactional
     public ConfirmMatchingResponse confirmMatching(ConfirmMatchingRequest request) {
         log.info("Confirming matching: human={}, dog={}", request.getHumanUuid(), request.getDogUuid());
 
-        String humanUuid = request.getHumanUuid();
-        String dogUuid = request.getDogUuid();
+        String humanUuid = UuidValidator.canonical(request.getHumanUuid(), "human UUID");
+        String dogUuid = UuidValidator.canonical(request.getDogUuid(), "dog UUID");
 
-        // Validate UUID formats
-        if (!UUID_PATTERN.matcher(humanUuid).matches()) {
-            throw new ValidationException("Invalid human UUID format: " + humanUuid);
-        }
-        if (!UUID_PATTERN.matcher(dogUuid).matches()) {
-            throw new ValidationException("Invalid dog UUID format: " + dogUuid);
-        }
+        // Fail fast without taking locks when the dog is already gone; the claims below stay authoritative
+        DogStatus dogStatus = dogRepository.findStatusByDogUuid(dogUuid)
+                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + dogUuid));
 
-        // Check if matching already exists
-        if (matchingRepository.existsByHumanUuidAndDogUuid(humanUuid, dogUuid)) {
-            throw new ConflictException("Matching already exists for this human and dog");
+        if (dogStatus.isAdopted()) {
+            throw new ConflictException("Dog is already adopted by another person");
         }
 
-        // Get human and verify not already matched
-        Human human = humanRepository.findByHumanUuid(humanUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Human not found: " + humanUuid));
+        // Claim dog then human with conditional updates. The fixed order keeps concurrent confirms from
+        // deadlocking, and a failed human claim rolls the dog claim back with the transaction.
+        LocalDateTime now = LocalDateTime.now();
 
-        if (human.getIsMatched()) {
+        if (dogRepository.claimForAdoption(dogUuid, now) == 0) {
+            throw new ConflictException("Dog is already adopted by another person");
+        }
+
+        if (humanRepository.claimForMatching(humanUuid, now) == 0) {
+            if (!humanRepository.existsByHumanUuid(humanUuid)) {
+                throw new ResourceNotFoundException("Human not found: " + humanUuid);
+            }
             throw new ConflictException("Human is already matched with another dog");
         }
 
-        // Get dog and verify not already adopted
-        Dog dog = dogRepository.findByDogUuid(dogUuid)
-                .orElseThrow(() -> new ResourceNotFoundException("Dog not found: " + dogUuid));
+        // A pair whose earlier confirmation failed keeps its FAILED row (uniq_human_dog) and is retried in place
+        Matching matching = matchingRepository.findByHumanUuidAndDogUuid(humanUuid, dogUuid)
+                .orElseGet(() -> Matching.builder()
+                        .humanUuid(humanUuid)
+                        .dogUuid(dogUuid)
+                        .build());
 
-        if (dog.getIsAdopted()) {
-            throw new ConflictException("Dog is already adopted by another person");
+        if (matching.getMatchingId() != null && matching.getStatus() != MatchingStatus.FAILED) {
+            throw new ConflictException("Matching already exists for this human and dog");
         }
 
-        // Update human and dog status
-        human.setIsMatched(true);
-        dog.setIsAdopted(true);
-        humanRepository.save(human);
-        dogRepository.save(dog);
+        matching.setStatus(MatchingStatus.PENDING);
+        matching.setReportId(null);
+        matching.setIsDanger(false);
+        matching.setFailureReason(null);
+        matching.setMatchedAt(now);
+        matching = matchingRepository.save(matching);
 
-        // Call report-service to confirm adoption
-        ReportServiceConfirmAdoptionRequest reportRequest = ReportServiceConfirmAdoptionRequest.builder()
-                .humanUuid(humanUuid)
-                .dogUuid(dogUuid)
-                .build();
+        // report-service confirms the adoption after commit; keyed by human so it follows REGISTER_SENIOR
+        outboxService.enqueue(humanUuid, OutboxEventType.CONFIRM_ADOPTION,
+                ReportServiceConfirmAdoptionRequest.builder()
+                        .humanUuid(humanUuid)
+                        .dogUuid(dogUuid)
+                        .build());
+
+        eventPublisher.publishEvent(new DogAdoptionStatusChangedEvent(dogUuid, true));
+        eventPublisher.publishEvent(HumansUpdatedEvent.of(humanUuid));
+        eventPublisher.publishEvent(SummaryDeltaEvent.matchingRequested());
 
-        ReportServiceConfirmAdoptionResponse reportResponse =
-                reportServiceClient.confirmAdoption(reportRequest);
+        log.info("Matching accepted, awaiting report-service confirmation: matchingId={}", matching.getMatchingId());
 
-        // Create matching record
-        Matching matching = Matching.builder()
-                .humanUuid(humanUuid)
-                .dogUuid(dogUuid)
-                .reportId(reportResponse.getReportId())
-                .isDanger(reportResponse.getIsDanger())
-                .matchedAt(LocalDateTime.now())
+        return ConfirmMatchingResponse.builder()
+                .matchingId(matching.getMatchingId())
+                .humanUuid(matching.getHumanUuid())
+                .dogUuid(matching.getDogUuid())
+                .status(matching.getStatus())
+                .matchedAt(matching.getMatchedAt())
                 .build();
+    }
 
-        matching = matchingRepository.save(matching);
+    @Transactional(readOnly = true)
+    public MatchingResponse getMatching(Long matchingId) {
+        log.info("Getting matching: {}", matchingId);
+
+        Matching matching = matchingRepository.findById(matchingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Matching not found: " + matchingId));
+
+        return mapToMatchingResponse(matching);
+    }
+
+    /**
+     * Records report-service's confirmation of a PENDING matching. Called by the outbox relay, which delivers at
+     * least once, so a matching that is no longer PENDING is left untouched.
+     */
+    @Transactional
+    public void completeConfirmation(String humanUuid, String dogUuid, ReportServiceConfirmAdoptionResponse report) {
+        Matching matching = matchingRepository.findByHumanUuidAndDogUuid(humanUuid, dogUuid).orElse(null);
+
+        if (matching == null || matching.getStatus() != MatchingStatus.PENDING) {
+            log.warn("Ignoring adoption confirmation for human={}, dog={}: no pending matching", humanUuid, dogUuid);
+            return;
+        }
+
+        matching.setStatus(MatchingStatus.CONFIRMED);
+        matching.setReportId(report.getReportId());
+        matching.setIsDanger(Boolean.TRUE.equals(report.getIsDanger()));
+        matchingRepository.save(matching);
+
+        eventPublisher.publishEvent(SummaryDeltaEvent.matchingConfirmed(matching.getIsDanger()));
 
         log.info("Matching confirmed successfully: matchingId={}, reportId={}",
                 matching.getMatchingId(), matching.getReportId());
+    }
 
-        return ConfirmMatchingResponse.builder()
+    /**
+     * Marks a PENDING matching FAILED once report-service delivery is given up, and releases the dog and human
+     * it claimed so they can be matched again.
+     */
+    @Transactional
+    public void failConfirmation(String humanUuid, String dogUuid, String reason) {
+        Matching matching = matchingRepository.findByHumanUuidAndDogUuid(humanUuid, dogUuid).orElse(null);
+
+        if (matching == null || matching.getStatus() != MatchingStatus.PENDING) {
+            return;
+        }
+
+        matching.setStatus(MatchingStatus.FAILED);
+        matching.setFailureReason(reason);
+        matchingRepository.save(matching);
+
+        LocalDateTime now = LocalDateTime.now();
+        if (dogRepository.releaseAdoption(dogUuid, now) > 0) {
+            eventPublisher.publishEvent(new DogAdoptionStatusChangedEvent(dogUuid, false));
+        }
+        if (humanRepository.releaseMatching(humanUuid, now) > 0) {
+            eventPublisher.publishEvent(HumansUpdatedEvent.of(humanUuid));
+        }
+        eventPublisher.publishEvent(SummaryDeltaEvent.matchingFailed());
+
+        log.warn("Matching {} failed, dog {} and human {} released: {}",
+                matching.getMatchingId(), dogUuid, humanUuid, reason);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MatchingResponse> listMatchings(Boolean isDanger, LocalDateTime from, LocalDateTime to,
+                                                              String cursor, Integer size) {
+        log.info("Listing matchings: isDanger={}, from={}, to={}", isDanger, from, to);
+
+        int pageSize = KeysetCursor.pageSize(size);
+        KeysetCursor position = KeysetCursor.startingAt(cursor, to);
+        LocalDateTime lowerBound = KeysetCursor.lowerBound(from);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Matching> matchings = isDanger != null
+                ? matchingRepository.findPageByDanger(isDanger, lowerBound, position.timestamp(), position.id(), limit)
+                : matchingRepository.findPage(lowerBound, position.timestamp(), position.id(), limit);
+
+        return KeysetCursor.page(matchings, pageSize, Matching::getMatchedAt, Matching::getMatchingId,
+                this::mapToMatchingResponse);
+    }
+
+    private MatchingResponse mapToMatchingResponse(Matching matching) {
+        return MatchingResponse.builder()
                 .matchingId(matching.getMatchingId())
                 .humanUuid(matching.getHumanUuid())
                 .dogUuid(matching.getDogUuid())
+                .status(matching.getStatus())
                 .reportId(matching.getReportId())
-                .isDanger(matching.getIsDanger())
+                // Unknown until report-service has assessed the match
+                .isDanger(matching.getStatus() == MatchingStatus.CONFIRMED ? matching.getIsDanger() : null)
+                .failureReason(matching.getFailureReason())
                 .matchedAt(matching.getMatchedAt())
                 .build();
     }
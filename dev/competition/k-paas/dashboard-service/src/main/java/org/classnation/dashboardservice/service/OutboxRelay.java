@@ -0,0 +1,254 @@
+package org.classnation.dashboardservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionRequest;
+import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionResponse;
+import org.classnation.dashboardservice.client.dto.ReportServiceRegisterDogRequest;
+import org.classnation.dashboardservice.client.dto.ReportServiceRegisterSeniorRequest;
+import org.classnation.dashboardservice.entity.OutboxEvent;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.entity.OutboxStatus;
+import org.classnation.dashboardservice.event.DogRegisteredEvent;
+import org.classnation.dashboardservice.event.HumansUpdatedEvent;
+import org.classnation.dashboardservice.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers pending {@link OutboxEvent}s to report-service.
+ * <p>
+ * Each poll claims a batch of due events, at most one per aggregate, by leasing them for {@code lease}, so
+ * several instances can relay side by side without sending an event twice. Claimed events are delivered in
+ * parallel (bounded by {@code parallelism}). Events of the same aggregate go out strictly in order: a failed
+ * event is rescheduled with exponential backoff and the events queued behind it wait until it is sent or gives
+ * up. Delivery is at-least-once; an event whose lease runs out mid-delivery, e.g. because the instance died, is
+ * claimed again.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ReportServiceClient reportServiceClient;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MatchingService matchingService;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Duration lease;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    public OutboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            ReportServiceClient reportServiceClient,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            MatchingService matchingService,
+            PlatformTransactionManager transactionManager,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.parallelism:8}") int parallelism,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${outbox.relay.max-backoff:5m}") Duration maxBackoff,
+            @Value("${outbox.relay.retention:7d}") Duration retention,
+            @Value("${outbox.relay.lease:2m}") Duration lease) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.reportServiceClient = reportServiceClient;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.matchingService = matchingService;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.lease = lease;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // A poll never submits more than batchSize tasks; should it, the polling thread delivers the overflow
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(batchSize), new CustomizableThreadFactory("outbox-relay-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:1000}")
+    public void relay() {
+        List<OutboxEvent> claimed = claim();
+
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        List<Callable<Boolean>> tasks = new ArrayList<>(claimed.size());
+        for (OutboxEvent event : claimed) {
+            tasks.add(() -> deliver(event));
+        }
+
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(cron = "${outbox.relay.cleanup-cron:0 0 4 * * *}")
+    public void purgeSentEvents() {
+        int deleted = outboxEventRepository.deleteSentBefore(OutboxStatus.SENT, LocalDateTime.now().minus(retention));
+        if (deleted > 0) {
+            log.info("Purged {} delivered outbox events", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // Let deliveries in flight record their outcome; unfinished ones are claimed again once their lease ends
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<OutboxEvent> claim() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> events = outboxEventRepository.findDeliverable(
+                    OutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+            // Flushed on commit, which releases the row locks; the lease keeps other instances away from here on
+            events.forEach(event -> event.setClaimedUntil(now.plus(lease)));
+            return events;
+        });
+    }
+
+    private boolean deliver(OutboxEvent event) {
+        try {
+            switch (event.getEventType()) {
+                case REGISTER_DOG -> {
+                    reportServiceClient.registerDog(read(event, ReportServiceRegisterDogRequest.class));
+                    eventPublisher.publishEvent(new DogRegisteredEvent(event.getAggregateId()));
+                }
+                case REGISTER_SENIOR -> {
+                    reportServiceClient.registerSenior(read(event, ReportServiceRegisterSeniorRequest.class));
+                    eventPublisher.publishEvent(HumansUpdatedEvent.of(event.getAggregateId()));
+                }
+                case CONFIRM_ADOPTION -> confirmAdoption(event);
+            }
+
+            event.setStatus(OutboxStatus.SENT);
+            event.setSentAt(LocalDateTime.now());
+            event.setLastError(null);
+            event.setClaimedUntil(null);
+            outboxEventRepository.save(event);
+            return true;
+        } catch (Exception e) {
+            markFailedAttempt(event, e);
+            return false;
+        }
+    }
+
+    /**
+     * Confirms with report-service at most once per event: the reply is stored on the event before the matching
+     * is completed, so when completing it fails the retry only repeats the local step. Every call carries the
+     * event's idempotency key, which covers a reply lost between report-service and the store.
+     */
+    private void confirmAdoption(OutboxEvent event) throws IOException {
+        ReportServiceConfirmAdoptionRequest request = read(event, ReportServiceConfirmAdoptionRequest.class);
+        ReportServiceConfirmAdoptionResponse report;
+
+        if (event.getResponse() != null) {
+            report = objectMapper.readValue(event.getResponse(), ReportServiceConfirmAdoptionResponse.class);
+        } else {
+            report = reportServiceClient.confirmAdoption(request, idempotencyKey(event));
+            event.setResponse(objectMapper.writeValueAsString(report));
+            outboxEventRepository.save(event);
+        }
+
+        matchingService.completeConfirmation(request.getHumanUuid(), request.getDogUuid(), report);
+    }
+
+    private void markFailedAttempt(OutboxEvent event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        event.setAttempts(attempts);
+        event.setLastError(truncate(e.getMessage()));
+        event.setClaimedUntil(null);
+
+        if (attempts >= maxAttempts) {
+            event.setStatus(OutboxStatus.FAILED);
+            log.error("Outbox event {} ({}) for {} failed permanently after {} attempts: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), attempts, e.getMessage());
+            compensate(event);
+        } else {
+            event.setNextAttemptAt(LocalDateTime.now().plus(backoff(attempts)));
+            log.warn("Outbox event {} ({}) for {} failed, attempt {}: {}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), attempts, e.getMessage());
+        }
+
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Undoes the local side of an event that will never be delivered. Only adoption confirmations need it: the
+     * PENDING matching is failed and its dog and human are released. A confirmation report-service has already
+     * accepted is never undone; its matching stays PENDING with the dog and human claimed until it is completed
+     * by hand.
+     */
+    private void compensate(OutboxEvent event) {
+        if (event.getEventType() != OutboxEventType.CONFIRM_ADOPTION) {
+            return;
+        }
+
+        if (event.getResponse() != null) {
+            log.error("Adoption for outbox event {} was confirmed by report-service ({}) but could not be recorded; "
+                    + "leaving its matching PENDING", event.getId(), event.getResponse());
+            return;
+        }
+
+        try {
+            ReportServiceConfirmAdoptionRequest request = read(event, ReportServiceConfirmAdoptionRequest.class);
+            matchingService.failConfirmation(request.getHumanUuid(), request.getDogUuid(), event.getLastError());
+        } catch (Exception e) {
+            log.error("Failed to release matching for outbox event {}: {}", event.getId(), e.getMessage());
+        }
+    }
+
+    private String idempotencyKey(OutboxEvent event) {
+        return "outbox-" + event.getId();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) throws IOException {
+        return objectMapper.readValue(event.getPayload(), type);
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= 500) {
+            return message;
+        }
+        return message.substring(0, 500);
+    }
+}
@@ -0,0 +1,69 @@
+package org.classnation.dashboardservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.classnation.dashboardservice.entity.OutboxEvent;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.repository.OutboxEventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records report-service writes in the caller's transaction; {@link OutboxRelay} delivers them after commit.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String aggregateId, OutboxEventType eventType, Object payload) {
+        try {
+            OutboxEvent event = OutboxEvent.builder()
+                    .aggregateId(aggregateId)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+
+            outboxEventRepository.save(event);
+
+            log.debug("Enqueued outbox event: type={}, aggregateId={}", eventType, aggregateId);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for " + eventType, e);
+        }
+    }
+
+    /**
+     * Batch variant of {@link #enqueue}; payloads are keyed by aggregate id and inserted with JDBC batching.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueAll(OutboxEventType eventType, Map<String, ?> payloadsByAggregateId) {
+        List<OutboxEvent> events = new ArrayList<>(payloadsByAggregateId.size());
+
+        try {
+            for (Map.Entry<String, ?> entry : payloadsByAggregateId.entrySet()) {
+                events.add(OutboxEvent.builder()
+                        .aggregateId(entry.getKey())
+                        .eventType(eventType)
+                        .payload(objectMapper.writeValueAsString(entry.getValue()))
+                        .build());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload for " + eventType, e);
+        }
+
+        outboxEventRepository.batchInsert(events);
+
+        log.debug("Enqueued {} outbox events: type={}", events.size(), eventType);
+    }
+}
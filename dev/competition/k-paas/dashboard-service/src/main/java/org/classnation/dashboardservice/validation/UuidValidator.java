@@ -0,0 +1,142 @@
+package org.classnation.dashboardservice.validation;
+
+import org.classnation.dashboardservice.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Validates and parses textual UUIDs ({@code 8-4-4-4-12} hex digits, any case) in a single pass over the
+ * characters, four digits at a time through a lookup table instead of the regex engine. Validation allocates
+ * nothing; {@link #canonical} only allocates when the input has upper-case digits.
+ */
+public final class UuidValidator {
+
+    private static final int LENGTH = 36;
+    private static final byte[] HEX_VALUES = new byte[256];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UuidValidator() {
+    }
+
+    public static boolean isValid(String value) {
+        if (value == null || value.length() != LENGTH || !hasHyphens(value)) {
+            return false;
+        }
+
+        // Invalid groups are negative, so any of them makes the OR negative
+        return (parse4Nibbles(value, 0) | parse4Nibbles(value, 4) | parse4Nibbles(value, 9)
+                | parse4Nibbles(value, 14) | parse4Nibbles(value, 19) | parse4Nibbles(value, 24)
+                | parse4Nibbles(value, 28) | parse4Nibbles(value, 32)) >= 0;
+    }
+
+    /**
+     * Throws {@link ValidationException} unless {@code value} is a valid UUID.
+     */
+    public static void validate(String value) {
+        validate(value, "UUID");
+    }
+
+    /**
+     * Same as {@link #validate(String)} with {@code description} naming the value in the error message,
+     * e.g. {@code "human UUID"}.
+     */
+    public static void validate(String value, String description) {
+        if (!isValid(value)) {
+            throw invalid(value, description);
+        }
+    }
+
+    /**
+     * Returns the canonical lower-case form of a valid UUID (the same instance when it already is) and throws
+     * {@link ValidationException} otherwise. The canonical form is what the database returns, so callers should
+     * use it for lookups, cache keys and comparisons from then on.
+     */
+    public static String canonical(String value) {
+        return canonical(value, "UUID");
+    }
+
+    /**
+     * Same as {@link #canonical(String)} with {@code description} naming the value in the error message.
+     */
+    public static String canonical(String value, String description) {
+        validate(value, description);
+
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'F') {
+                return toLowerCase(value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Parses a UUID in one pass; unlike {@link UUID#fromString} the input must be exactly in the 36-character
+     * form.
+     */
+    public static UUID parse(String value) {
+        if (value == null || value.length() != LENGTH || !hasHyphens(value)) {
+            throw invalid(value, "UUID");
+        }
+
+        long g1 = parse4Nibbles(value, 0);
+        long g2 = parse4Nibbles(value, 4);
+        long g3 = parse4Nibbles(value, 9);
+        long g4 = parse4Nibbles(value, 14);
+        long g5 = parse4Nibbles(value, 19);
+        long g6 = parse4Nibbles(value, 24);
+        long g7 = parse4Nibbles(value, 28);
+        long g8 = parse4Nibbles(value, 32);
+
+        if ((g1 | g2 | g3 | g4 | g5 | g6 | g7 | g8) < 0) {
+            throw invalid(value, "UUID");
+        }
+
+        long mostSignificantBits = g1 << 48 | g2 << 32 | g3 << 16 | g4;
+        long leastSignificantBits = g5 << 48 | g6 << 32 | g7 << 16 | g8;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    private static boolean hasHyphens(String value) {
+        return value.charAt(8) == '-' && value.charAt(13) == '-' && value.charAt(18) == '-'
+                && value.charAt(23) == '-';
+    }
+
+    /**
+     * Value of the four hex digits starting at {@code index}, or a negative number if any of them is not one.
+     */
+    private static int parse4Nibbles(String value, int index) {
+        char c1 = value.charAt(index);
+        char c2 = value.charAt(index + 1);
+        char c3 = value.charAt(index + 2);
+        char c4 = value.charAt(index + 3);
+        if ((c1 | c2 | c3 | c4) >= HEX_VALUES.length) {
+            return -1;
+        }
+        return HEX_VALUES[c1] << 12 | HEX_VALUES[c2] << 8 | HEX_VALUES[c3] << 4 | HEX_VALUES[c4];
+    }
+
+    private static String toLowerCase(String value) {
+        char[] chars = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            char c = value.charAt(i);
+            chars[i] = c >= 'A' && c <= 'F' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return new String(chars);
+    }
+
+    private static ValidationException invalid(String value, String description) {
+        return new ValidationException("Invalid " + description + " format: " + value);
+    }
+}
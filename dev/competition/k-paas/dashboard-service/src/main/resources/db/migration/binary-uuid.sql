@@ -0,0 +1,174 @@
+-- Online migration of dogs.dog_uuid, humans.human_uuid and matchings.(human_uuid, dog_uuid)
+-- from VARCHAR(36) to BINARY(16) (MySQL 8.0.29+).
+--
+-- ddl-auto=update never alters an existing column, so databases created before the switch must be migrated
+-- with this script. Fresh databases get BINARY(16) columns directly.
+--
+-- Phases 1-3 run while the previous release keeps serving traffic: a shadow column is added instantly, kept
+-- in sync by triggers and backfilled in small id-range batches so no statement holds row locks for long.
+-- Phase 4 is the cutover and needs the old release stopped; it only renames columns and indexes, which takes a
+-- brief metadata lock. Deploy the new release right after phase 4. Phase 5 drops the old columns and is the
+-- only step that rebuilds tables; it can run any time later.
+
+-- ---------------------------------------------------------------------------------------------------------
+-- Phase 1: shadow columns (instant) and sync triggers for writes made during the backfill
+-- ---------------------------------------------------------------------------------------------------------
+ALTER TABLE dogs ADD COLUMN dog_uuid_bin BINARY(16) NULL, ALGORITHM = INSTANT;
+ALTER TABLE humans ADD COLUMN human_uuid_bin BINARY(16) NULL, ALGORITHM = INSTANT;
+ALTER TABLE matchings
+    ADD COLUMN human_uuid_bin BINARY(16) NULL,
+    ADD COLUMN dog_uuid_bin BINARY(16) NULL,
+    ALGORITHM = INSTANT;
+
+DELIMITER //
+
+CREATE TRIGGER dogs_uuid_bin_insert BEFORE INSERT ON dogs FOR EACH ROW
+    SET NEW.dog_uuid_bin = UUID_TO_BIN(NEW.dog_uuid)//
+CREATE TRIGGER dogs_uuid_bin_update BEFORE UPDATE ON dogs FOR EACH ROW
+    SET NEW.dog_uuid_bin = UUID_TO_BIN(NEW.dog_uuid)//
+
+CREATE TRIGGER humans_uuid_bin_insert BEFORE INSERT ON humans FOR EACH ROW
+    SET NEW.human_uuid_bin = UUID_TO_BIN(NEW.human_uuid)//
+CREATE TRIGGER humans_uuid_bin_update BEFORE UPDATE ON humans FOR EACH ROW
+    SET NEW.human_uuid_bin = UUID_TO_BIN(NEW.human_uuid)//
+
+CREATE TRIGGER matchings_uuid_bin_insert BEFORE INSERT ON matchings FOR EACH ROW
+BEGIN
+    SET NEW.human_uuid_bin = UUID_TO_BIN(NEW.human_uuid);
+    SET NEW.dog_uuid_bin = UUID_TO_BIN(NEW.dog_uuid);
+END//
+CREATE TRIGGER matchings_uuid_bin_update BEFORE UPDATE ON matchings FOR EACH ROW
+BEGIN
+    SET NEW.human_uuid_bin = UUID_TO_BIN(NEW.human_uuid);
+    SET NEW.dog_uuid_bin = UUID_TO_BIN(NEW.dog_uuid);
+END//
+
+-- ---------------------------------------------------------------------------------------------------------
+-- Phase 2: backfill existing rows in id-range batches, one short transaction per batch
+-- ---------------------------------------------------------------------------------------------------------
+CREATE PROCEDURE backfill_binary_uuids(IN batch_size INT)
+BEGIN
+    DECLARE low BIGINT;
+    DECLARE max_id BIGINT;
+
+    SELECT COALESCE(MIN(id), 1), COALESCE(MAX(id), 0) INTO low, max_id FROM dogs;
+    WHILE low <= max_id DO
+        UPDATE dogs SET dog_uuid_bin = UUID_TO_BIN(dog_uuid)
+        WHERE id >= low AND id < low + batch_size AND dog_uuid_bin IS NULL;
+        SET low = low + batch_size;
+    END WHILE;
+
+    SELECT COALESCE(MIN(id), 1), COALESCE(MAX(id), 0) INTO low, max_id FROM humans;
+    WHILE low <= max_id DO
+        UPDATE humans SET human_uuid_bin = UUID_TO_BIN(human_uuid)
+        WHERE id >= low AND id < low + batch_size AND human_uuid_bin IS NULL;
+        SET low = low + batch_size;
+    END WHILE;
+
+    SELECT COALESCE(MIN(matching_id), 1), COALESCE(MAX(matching_id), 0) INTO low, max_id FROM matchings;
+    WHILE low <= max_id DO
+        UPDATE matchings
+        SET human_uuid_bin = UUID_TO_BIN(human_uuid), dog_uuid_bin = UUID_TO_BIN(dog_uuid)
+        WHERE matching_id >= low AND matching_id < low + batch_size
+          AND (human_uuid_bin IS NULL OR dog_uuid_bin IS NULL);
+        SET low = low + batch_size;
+    END WHILE;
+END//
+
+DELIMITER ;
+
+SET autocommit = 1;
+CALL backfill_binary_uuids(1000);
+DROP PROCEDURE backfill_binary_uuids;
+
+-- All three must return 0 before continuing; a row left over holds a VARCHAR value that is not a UUID
+SELECT COUNT(*) FROM dogs WHERE dog_uuid_bin IS NULL;
+SELECT COUNT(*) FROM humans WHERE human_uuid_bin IS NULL;
+SELECT COUNT(*) FROM matchings WHERE human_uuid_bin IS NULL OR dog_uuid_bin IS NULL;
+
+-- ---------------------------------------------------------------------------------------------------------
+-- Phase 3: build the new unique indexes online
+-- ---------------------------------------------------------------------------------------------------------
+ALTER TABLE dogs ADD UNIQUE INDEX uk_dogs_dog_uuid (dog_uuid_bin), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE humans ADD UNIQUE INDEX uk_humans_human_uuid (human_uuid_bin), ALGORITHM = INPLACE, LOCK = NONE;
+ALTER TABLE matchings ADD UNIQUE INDEX uniq_human_dog_bin (human_uuid_bin, dog_uuid_bin),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- ---------------------------------------------------------------------------------------------------------
+-- Phase 4: cutover (stop the previous release first)
+-- Column renames are ALGORITHM = INSTANT (metadata only). The VARCHAR columns stay in place under a new name
+-- and reverse triggers keep them filled, so the previous release can still be rolled back to until phase 5.
+-- ---------------------------------------------------------------------------------------------------------
+DROP TRIGGER dogs_uuid_bin_insert;
+DROP TRIGGER dogs_uuid_bin_update;
+DROP TRIGGER humans_uuid_bin_insert;
+DROP TRIGGER humans_uuid_bin_update;
+DROP TRIGGER matchings_uuid_bin_insert;
+DROP TRIGGER matchings_uuid_bin_update;
+
+ALTER TABLE dogs
+    RENAME COLUMN dog_uuid TO dog_uuid_varchar,
+    RENAME COLUMN dog_uuid_bin TO dog_uuid,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE humans
+    RENAME COLUMN human_uuid TO human_uuid_varchar,
+    RENAME COLUMN human_uuid_bin TO human_uuid,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE matchings
+    RENAME COLUMN human_uuid TO human_uuid_varchar,
+    RENAME COLUMN dog_uuid TO dog_uuid_varchar,
+    RENAME COLUMN human_uuid_bin TO human_uuid,
+    RENAME COLUMN dog_uuid_bin TO dog_uuid,
+    ALGORITHM = INSTANT;
+
+-- Index renames are not INSTANT but only touch metadata (no rebuild, concurrent DML allowed)
+ALTER TABLE matchings
+    RENAME INDEX uniq_human_dog TO uniq_human_dog_varchar,
+    RENAME INDEX uniq_human_dog_bin TO uniq_human_dog,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+DELIMITER //
+
+CREATE TRIGGER dogs_uuid_varchar_insert BEFORE INSERT ON dogs FOR EACH ROW
+    SET NEW.dog_uuid_varchar = BIN_TO_UUID(NEW.dog_uuid)//
+CREATE TRIGGER humans_uuid_varchar_insert BEFORE INSERT ON humans FOR EACH ROW
+    SET NEW.human_uuid_varchar = BIN_TO_UUID(NEW.human_uuid)//
+CREATE TRIGGER matchings_uuid_varchar_insert BEFORE INSERT ON matchings FOR EACH ROW
+BEGIN
+    SET NEW.human_uuid_varchar = BIN_TO_UUID(NEW.human_uuid);
+    SET NEW.dog_uuid_varchar = BIN_TO_UUID(NEW.dog_uuid);
+END//
+
+DELIMITER ;
+
+-- Deploy the new release now. UUIDs are never updated, so insert triggers are enough.
+
+-- ---------------------------------------------------------------------------------------------------------
+-- Phase 5: cleanup, once rolling back is no longer needed (schedule off-peak)
+-- Dropping the VARCHAR columns also drops their unique indexes. MySQL cannot drop an indexed column or make a
+-- column NOT NULL instantly, so each ALTER below REBUILDS THE TABLE in place: reads and writes continue
+-- (LOCK = NONE), but it needs free disk for a full copy of the table, runs for time proportional to its size,
+-- and replicas apply it after it finishes on the source, so expect replica lag of the same duration.
+-- ---------------------------------------------------------------------------------------------------------
+DROP TRIGGER dogs_uuid_varchar_insert;
+DROP TRIGGER humans_uuid_varchar_insert;
+DROP TRIGGER matchings_uuid_varchar_insert;
+
+ALTER TABLE dogs
+    DROP COLUMN dog_uuid_varchar,
+    MODIFY COLUMN dog_uuid BINARY(16) NOT NULL,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE humans
+    DROP COLUMN human_uuid_varchar,
+    MODIFY COLUMN human_uuid BINARY(16) NOT NULL,
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+ALTER TABLE matchings
+    DROP COLUMN human_uuid_varchar,
+    DROP COLUMN dog_uuid_varchar,
+    MODIFY COLUMN human_uuid BINARY(16) NOT NULL,
+    MODIFY COLUMN dog_uuid BINARY(16) NOT NULL,
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,13 @@
+-- Asynchronous adoption confirmation (MySQL 8.0).
+--
+-- Matchings are now created PENDING and get their report_id once report-service confirms the adoption, so
+-- report_id becomes nullable. ddl-auto=update adds the new status and failure_reason columns on its own but
+-- never relaxes an existing NOT NULL constraint; run this script before deploying on databases created
+-- earlier. Existing rows were confirmed synchronously and take the column default.
+
+ALTER TABLE matchings
+    ADD COLUMN status VARCHAR(10) NOT NULL DEFAULT 'CONFIRMED',
+    ADD COLUMN failure_reason VARCHAR(500) NULL,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE matchings MODIFY COLUMN report_id VARCHAR(36) NULL, ALGORITHM = INPLACE, LOCK = NONE;
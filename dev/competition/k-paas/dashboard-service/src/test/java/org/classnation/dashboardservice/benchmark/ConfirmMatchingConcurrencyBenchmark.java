@@ -0,0 +1,259 @@
+package org.classnation.dashboardservice.benchmark;
+
+import org.classnation.dashboardservice.dto.ConfirmMatchingRequest;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.Matching;
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.classnation.dashboardservice.exception.ConflictException;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.classnation.dashboardservice.repository.MatchingRepository;
+import org.classnation.dashboardservice.service.MatchingCandidatesCache;
+import org.classnation.dashboardservice.service.MatchingService;
+import org.classnation.dashboardservice.service.OutboxService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Races many confirmMatching calls on a handful of popular dogs and compares three ways of claiming them:
+ * the original unlocked read-check-write, read-modify-write on versioned entities, and the conditional updates
+ * MatchingService now uses. Only the first lets a dog be adopted twice, and the conditional updates must also
+ * out-run the versioned read-modify-write, whose losers only fail at commit after doing all their work. Each
+ * strategy races {@value #RACES} times on fresh rows and is compared on its median throughput.
+ * <p>
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({MatchingService.class, OutboxService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConfirmMatchingConcurrencyBenchmark {
+
+    private static final int DOGS = 10;
+    private static final int HUMANS = 400;
+    private static final int THREADS = 32;
+    private static final int RACES = 3;
+
+    @Autowired
+    private MatchingService matchingService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private HumanRepository humanRepository;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private MatchingCandidatesCache matchingCandidatesCache;
+
+    @Test
+    void conditionalUpdatesNeverAdoptADogTwice() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Confirm unlockedConfirm = this::confirmUnlocked;
+        Confirm versionedConfirm = (humanUuid, dogUuid) ->
+                transaction.executeWithoutResult(status -> confirmVersioned(humanUuid, dogUuid));
+        Confirm conditionalConfirm = (humanUuid, dogUuid) ->
+                matchingService.confirmMatching(new ConfirmMatchingRequest(humanUuid, dogUuid));
+
+        // Warm up all three paths before measuring
+        for (Confirm confirm : List.of(unlockedConfirm, versionedConfirm, conditionalConfirm)) {
+            race("warm-up", confirm);
+        }
+
+        List<Result> unlocked = new ArrayList<>();
+        List<Result> versioned = new ArrayList<>();
+        List<Result> conditional = new ArrayList<>();
+        // Interleaved so a slow stretch on the machine does not land on one strategy only
+        for (int i = 0; i < RACES; i++) {
+            unlocked.add(race("unlocked read-check-write", unlockedConfirm));
+            versioned.add(race("versioned read-modify-write", versionedConfirm));
+            conditional.add(race("conditional updates", conditionalConfirm));
+        }
+
+        System.out.printf("%d confirms racing on %d dogs with %d threads, %d races each%n",
+                HUMANS, DOGS, THREADS, RACES);
+        for (List<Result> results : List.of(unlocked, versioned, conditional)) {
+            System.out.printf("  %-28s: median %8.1f confirms/s, %s matchings, up to %d dogs adopted more than once%n",
+                    results.get(0).name(), medianThroughput(results),
+                    results.stream().map(result -> Integer.toString(result.matchings()))
+                            .collect(Collectors.joining("/")),
+                    results.stream().mapToInt(Result::doubleAdoptedDogs).max().orElse(0));
+        }
+
+        assertThat(conditional).allSatisfy(result -> {
+            assertThat(result.matchings()).isEqualTo(DOGS);
+            assertThat(result.doubleAdoptedDogs()).isZero();
+        });
+        assertThat(versioned).allSatisfy(result -> assertThat(result.doubleAdoptedDogs()).isZero());
+        assertThat(medianThroughput(conditional)).isGreaterThan(medianThroughput(versioned));
+    }
+
+    private static double medianThroughput(List<Result> results) {
+        return results.stream().mapToDouble(Result::throughput).sorted().toArray()[results.size() / 2];
+    }
+
+    private Result race(String name, Confirm confirm) throws Exception {
+        List<String> dogUuids = seedDogs();
+        List<String> humanUuids = seedHumans();
+
+        Random random = new Random(7);
+        List<Callable<Void>> attempts = new ArrayList<>(HUMANS);
+        AtomicInteger failures = new AtomicInteger();
+        for (String humanUuid : humanUuids) {
+            String dogUuid = dogUuids.get(random.nextInt(DOGS));
+            attempts.add(() -> {
+                try {
+                    confirm.confirm(humanUuid, dogUuid);
+                } catch (ConflictException | org.springframework.dao.DataAccessException e) {
+                    failures.incrementAndGet();
+                }
+                return null;
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        try {
+            executor.invokeAll(attempts);
+        } finally {
+            executor.shutdown();
+        }
+        double throughput = HUMANS / ((System.nanoTime() - start) / 1_000_000_000.0);
+
+        Set<String> dogs = Set.copyOf(dogUuids);
+        Map<String, Integer> adoptionsPerDog = new HashMap<>();
+        for (Matching matching : matchingRepository.findAll()) {
+            if (dogs.contains(matching.getDogUuid())) {
+                adoptionsPerDog.merge(matching.getDogUuid(), 1, Integer::sum);
+            }
+        }
+
+        int matchings = adoptionsPerDog.values().stream().mapToInt(Integer::intValue).sum();
+        int doubleAdopted = (int) adoptionsPerDog.values().stream().filter(count -> count > 1).count();
+        assertThat(matchings + failures.get()).isEqualTo(HUMANS);
+
+        return new Result(name, throughput, matchings, doubleAdopted);
+    }
+
+    /**
+     * The statements confirmMatching used to run: reads without locks, then unconditional writes.
+     */
+    private void confirmUnlocked(String humanUuid, String dogUuid) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            byte[] human = UuidBinaryConverter.toBytes(humanUuid);
+            byte[] dog = UuidBinaryConverter.toBytes(dogUuid);
+
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM matchings WHERE human_uuid = ? AND dog_uuid = ?", Integer.class, human, dog);
+            Boolean matched = jdbcTemplate.queryForObject(
+                    "SELECT is_matched FROM humans WHERE human_uuid = ?", Boolean.class, human);
+            Boolean adopted = jdbcTemplate.queryForObject(
+                    "SELECT is_adopted FROM dogs WHERE dog_uuid = ?", Boolean.class, dog);
+            if (existing > 0 || matched || adopted) {
+                throw new ConflictException("Already matched");
+            }
+
+            jdbcTemplate.update("UPDATE humans SET is_matched = true WHERE human_uuid = ?", human);
+            jdbcTemplate.update("UPDATE dogs SET is_adopted = true WHERE dog_uuid = ?", dog);
+            jdbcTemplate.update("INSERT INTO matchings (human_uuid, dog_uuid, report_id, is_danger, matched_at) "
+                    + "VALUES (?, ?, ?, false, ?)", human, dog, UUID.randomUUID().toString(),
+                    Timestamp.valueOf(LocalDateTime.now()));
+        });
+    }
+
+    /**
+     * Read-modify-write through entities; the version columns turn a lost update into a failed commit.
+     */
+    private void confirmVersioned(String humanUuid, String dogUuid) {
+        Human human = humanRepository.findByHumanUuid(humanUuid).orElseThrow();
+        Dog dog = dogRepository.findByDogUuid(dogUuid).orElseThrow();
+        if (human.getIsMatched() || dog.getIsAdopted()) {
+            throw new ConflictException("Already matched");
+        }
+
+        human.setIsMatched(true);
+        dog.setIsAdopted(true);
+        humanRepository.save(human);
+        dogRepository.save(dog);
+        matchingRepository.save(Matching.builder()
+                .humanUuid(humanUuid)
+                .dogUuid(dogUuid)
+                .reportId(UUID.randomUUID().toString())
+                .isDanger(false)
+                .matchedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private List<String> seedDogs() {
+        List<Dog> dogs = new ArrayList<>(DOGS);
+        for (int i = 0; i < DOGS; i++) {
+            dogs.add(Dog.builder().dogUuid(UUID.randomUUID().toString()).name("dog-" + i).isAdopted(false).build());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> dogRepository.batchInsert(dogs));
+        return dogs.stream().map(Dog::getDogUuid).collect(Collectors.toList());
+    }
+
+    private List<String> seedHumans() {
+        List<Human> humans = new ArrayList<>(HUMANS);
+        for (int i = 0; i < HUMANS; i++) {
+            humans.add(Human.builder().humanUuid(UUID.randomUUID().toString()).name("human-" + i)
+                    .initialConsulted(false).isMatched(false).build());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> humanRepository.batchInsert(humans));
+        List<String> uuids = humans.stream().map(Human::getHumanUuid).collect(Collectors.toList());
+        Collections.shuffle(uuids, new Random(11));
+        return uuids;
+    }
+
+    @FunctionalInterface
+    private interface Confirm {
+        void confirm(String humanUuid, String dogUuid);
+    }
+
+    private record Result(String name, double throughput, int matchings, int doubleAdoptedDogs) {
+    }
+}
@@ -0,0 +1,398 @@
+package org.classnation.dashboardservice.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * End-to-end load test: starts the whole service on in-memory H2 (MySQL mode) against local user-service and
+ * report-service stubs, seeds dogs and humans through the bulk endpoints, then drives a weighted mix of admin
+ * traffic from concurrent clients and reports throughput and p50/p99/p999 latency per endpoint. Runs offline.
+ * <p>
+ * Run with {@code gradle benchmark --tests '*DashboardLoadTest'}. Tunables (system properties):
+ * <ul>
+ *     <li>{@code benchmark.load.workers}, {@code .duration}, {@code .warmup}, {@code .dogs}, {@code .humans}</li>
+ *     <li>{@code benchmark.load.max-p99}: fail when any endpoint's p99 exceeds it, e.g. {@code 250ms}</li>
+ *     <li>{@code benchmark.user-service.*} and {@code benchmark.report-service.*}: injected latency and errors,
+ *     see {@link DownstreamStub.Faults#fromSystemProperties}</li>
+ * </ul>
+ * Endpoints that never wait on report-service must not fail; downstream errors show up in their own rows.
+ * <p>
+ * The numbers are H2-only. MySQL mode changes SQL syntax, not the engine, so they show nothing about InnoDB row and
+ * gap locking, connection pool contention against a networked database or read-replica lag; use them to compare
+ * changes to the service itself, not to size a MySQL deployment.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.classnation.dashboardservice=WARN",
+        "logging.level.org.springframework.web=WARN",
+        "security.jwt.verification-mode=REMOTE"
+})
+class DashboardLoadTest {
+
+    private static final int WORKERS = Integer.getInteger("benchmark.load.workers", 32);
+    private static final Duration DURATION = duration("benchmark.load.duration", "30s");
+    private static final Duration WARMUP = duration("benchmark.load.warmup", "10s");
+    private static final int DOGS = Integer.getInteger("benchmark.load.dogs", 2000);
+    private static final int HUMANS = Integer.getInteger("benchmark.load.humans", 2000);
+    private static final int ADMIN_TOKENS = 8;
+    private static final int SEED_CHUNK = 500;
+
+    private static DownstreamStub userService;
+    private static DownstreamStub reportService;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final List<String> dogUuids = new ArrayList<>();
+    private final List<String> humanUuids = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void downstreams(DynamicPropertyRegistry registry) throws IOException {
+        userService = new DownstreamStub("user-service", DownstreamStub.Faults.fromSystemProperties("user-service",
+                new DownstreamStub.Faults(Duration.ofMillis(5), Duration.ofMillis(5), 0.01, Duration.ofMillis(100), 0)))
+                .route("POST", "/api/auth/verify",
+                        match -> "{\"valid\":true,\"uid\":\"load-test-admin\",\"sid\":\"load-test\",\"role\":\"ADMIN\"}")
+                .start();
+
+        reportService = new DownstreamStub("report-service", DownstreamStub.Faults.fromSystemProperties(
+                "report-service",
+                new DownstreamStub.Faults(Duration.ofMillis(20), Duration.ofMillis(20), 0.01, Duration.ofMillis(400), 0)))
+                .route("POST", "/report-service/register/(seniors|dogs)", match -> null)
+                .route("GET", "/report-service/matching/seniors/([^/]+)", match -> "{\"candidates\":["
+                        + candidate(0.92) + "," + candidate(0.81) + "," + candidate(0.64) + "]}")
+                .route("POST", "/report-service/adoptions/confirm",
+                        match -> "{\"reportId\":\"" + UUID.randomUUID() + "\",\"isDanger\":false}")
+                .route("GET", "/report-service/reports/([^/]+)", match -> "{\"reportId\":\"" + UUID.randomUUID()
+                        + "\",\"isDanger\":true,\"createdAt\":\"2026-01-01T09:00:00\",\"summary\":\"Missed check-ins\"}")
+                .start();
+
+        registry.add("external.user-service.url", userService::url);
+        registry.add("external.report-service.url", reportService::url);
+    }
+
+    @TestConfiguration
+    static class Downstreams {
+
+        // Closed with the context, after the outbox relay and pollers have stopped calling the stubs
+        @Bean
+        AutoCloseable downstreamStubs() {
+            return () -> {
+                userService.close();
+                reportService.close();
+            };
+        }
+    }
+
+    @Test
+    void adminTrafficMix() throws Exception {
+        seed();
+        List<Operation> mix = trafficMix();
+
+        run(mix, WARMUP);
+        Map<String, Recorder> results = run(mix, DURATION);
+
+        report(mix, results);
+
+        for (Operation operation : mix) {
+            Recorder recorder = results.get(operation.name());
+            assertThat(recorder.count()).as(operation.name()).isPositive();
+            if (!operation.downstream()) {
+                assertThat(recorder.errors()).as(operation.name() + " errors " + recorder.statuses()).isZero();
+            }
+        }
+
+        String maxP99 = System.getProperty("benchmark.load.max-p99");
+        if (maxP99 != null) {
+            long limitNanos = DurationStyle.detectAndParse(maxP99).toNanos();
+            for (Operation operation : mix) {
+                assertThat(results.get(operation.name()).percentile(0.99)).as(operation.name() + " p99")
+                        .isLessThanOrEqualTo(limitNanos);
+            }
+        }
+    }
+
+    private void seed() throws Exception {
+        for (int i = 0; i < DOGS; i++) {
+            dogUuids.add(UUID.randomUUID().toString());
+        }
+        for (int i = 0; i < HUMANS; i++) {
+            humanUuids.add(UUID.randomUUID().toString());
+        }
+
+        for (int from = 0; from < DOGS; from += SEED_CHUNK) {
+            String items = dogUuids.subList(from, Math.min(DOGS, from + SEED_CHUNK)).stream()
+                    .map(DashboardLoadTest::dogJson)
+                    .collect(Collectors.joining(","));
+            assertThat(send(post("/api/dashboard/dogs/bulk", "{\"dogs\":[" + items + "]}", 0)).statusCode())
+                    .isEqualTo(200);
+        }
+        for (int from = 0; from < HUMANS; from += SEED_CHUNK) {
+            String items = humanUuids.subList(from, Math.min(HUMANS, from + SEED_CHUNK)).stream()
+                    .map(DashboardLoadTest::humanJson)
+                    .collect(Collectors.joining(","));
+            assertThat(send(post("/api/dashboard/humans/bulk", "{\"humans\":[" + items + "]}", 0)).statusCode())
+                    .isEqualTo(200);
+        }
+    }
+
+    /**
+     * Weighted admin traffic: mostly list and detail reads, some report-service backed lookups, a trickle of
+     * edits and adoption confirmations (which conflict once the dog or human is taken).
+     */
+    private List<Operation> trafficMix() {
+        Set<Integer> ok = Set.of(200);
+        return List.of(
+                new Operation("GET  /dogs", 15, false, ok, (r, token) ->
+                        get("/api/dashboard/dogs?size=20" + (r.nextBoolean() ? "&adopted=false" : ""), token)),
+                new Operation("GET  /dogs/{uuid}", 15, false, ok, (r, token) ->
+                        get("/api/dashboard/dogs/" + pick(dogUuids, r), token)),
+                new Operation("GET  /dogs/{uuid}/adoption-status", 5, false, ok, (r, token) ->
+                        get("/api/dashboard/dogs/" + pick(dogUuids, r) + "/adoption-status", token)),
+                new Operation("PUT  /dogs/{uuid}", 4, false, ok, (r, token) ->
+                        put("/api/dashboard/dogs/" + pick(dogUuids, r), dogJson(null), token)),
+                new Operation("GET  /humans", 10, false, ok, (r, token) ->
+                        get("/api/dashboard/humans?size=20" + (r.nextBoolean() ? "&matched=false" : ""), token)),
+                new Operation("GET  /humans/{uuid}/match-status", 10, false, ok, (r, token) ->
+                        get("/api/dashboard/humans/" + pick(humanUuids, r) + "/match-status", token)),
+                new Operation("PUT  /humans/{uuid}", 3, false, ok, (r, token) ->
+                        put("/api/dashboard/humans/" + pick(humanUuids, r), humanJson(null), token)),
+                new Operation("GET  /summary", 10, false, ok, (r, token) ->
+                        get("/api/dashboard/summary", token)),
+                new Operation("GET  /matchings", 5, false, ok, (r, token) ->
+                        get("/api/dashboard/matchings?size=20", token)),
+                new Operation("POST /matchings/confirm", 2, false, Set.of(202, 409), (r, token) ->
+                        post("/api/dashboard/matchings/confirm", "{\"humanUuid\":\"" + pick(humanUuids, r)
+                                + "\",\"dogUuid\":\"" + pick(dogUuids, r) + "\"}", token)),
+                new Operation("GET  /matching/{uuid}/candidates", 10, true, ok, (r, token) ->
+                        get("/api/dashboard/matching/" + pick(humanUuids, r) + "/candidates?top=3", token)),
+                new Operation("GET  /humans/{uuid}/danger/latest", 8, true, ok, (r, token) ->
+                        get("/api/dashboard/humans/" + pick(humanUuids, r) + "/danger/latest", token)),
+                new Operation("POST /humans/danger/latest/batch", 3, true, ok, (r, token) -> {
+                    String uuids = r.ints(10, 0, humanUuids.size())
+                            .mapToObj(i -> "\"" + humanUuids.get(i) + "\"")
+                            .collect(Collectors.joining(","));
+                    return post("/api/dashboard/humans/danger/latest/batch", "{\"humanUuids\":[" + uuids + "]}",
+                            token);
+                }));
+    }
+
+    private Map<String, Recorder> run(List<Operation> mix, Duration duration) throws Exception {
+        Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+        mix.forEach(operation -> recorders.put(operation.name(), new Recorder()));
+        int totalWeight = mix.stream().mapToInt(Operation::weight).sum();
+        long deadline = System.nanoTime() + duration.toNanos();
+        long start = System.nanoTime();
+
+        List<Future<?>> workers = new ArrayList<>(WORKERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < WORKERS; w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> {
+                    Random random = new Random(worker);
+                    int token = worker % ADMIN_TOKENS;
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = choose(mix, totalWeight, random);
+                        HttpRequest request = operation.request().apply(random, token);
+                        long begin = System.nanoTime();
+                        int status;
+                        try {
+                            status = send(request).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        }
+                        recorders.get(operation.name()).record(System.nanoTime() - begin, status,
+                                operation.expected().contains(status));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        recorders.values().forEach(recorder -> recorder.seconds = seconds);
+        return recorders;
+    }
+
+    private void report(List<Operation> mix, Map<String, Recorder> results) {
+        System.out.printf("%nLoad test (in-memory H2, not representative of MySQL locking or replicas): "
+                        + "%d workers for %d s after %d s warm-up, %d dogs, %d humans%n",
+                WORKERS, DURATION.toSeconds(), WARMUP.toSeconds(), DOGS, HUMANS);
+        System.out.printf("  %-36s %9s %9s %7s %8s %8s %8s %8s%n",
+                "endpoint", "requests", "req/s", "errors", "p50 ms", "p99 ms", "p999 ms", "max ms");
+
+        long total = 0;
+        double seconds = 0;
+        for (Operation operation : mix) {
+            Recorder recorder = results.get(operation.name());
+            total += recorder.count();
+            seconds = recorder.seconds;
+            System.out.printf("  %-36s %9d %9.1f %7d %8.1f %8.1f %8.1f %8.1f%n", operation.name(),
+                    recorder.count(), recorder.count() / recorder.seconds, recorder.errors(),
+                    millis(recorder.percentile(0.5)), millis(recorder.percentile(0.99)),
+                    millis(recorder.percentile(0.999)), millis(recorder.percentile(1.0)));
+        }
+        System.out.printf("  %-36s %9d %9.1f%n", "total", total, total / seconds);
+        System.out.println("  " + userService.describe());
+        System.out.println("  " + reportService.describe());
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest get(String path, int token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String json, int token) {
+        return request(path, token).POST(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest put(String path, String json, int token) {
+        return request(path, token).PUT(HttpRequest.BodyPublishers.ofString(json)).build();
+    }
+
+    private HttpRequest.Builder request(String path, int token) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer load-test-admin-" + token)
+                .header("Content-Type", "application/json");
+    }
+
+    private static Operation choose(List<Operation> mix, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : mix) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Weights do not add up");
+    }
+
+    private static String pick(List<String> uuids, Random random) {
+        return uuids.get(random.nextInt(uuids.size()));
+    }
+
+    private static String dogJson(String dogUuid) {
+        return "{" + (dogUuid != null ? "\"dogUuid\":\"" + dogUuid + "\"," : "")
+                + "\"shelterName\":\"Load Test Shelter\",\"name\":\"Dog\",\"size\":\"MEDIUM\","
+                + "\"activity\":\"LOW\",\"temperament\":\"CALM\",\"diseases\":\"none\"}";
+    }
+
+    private static String humanJson(String humanUuid) {
+        return "{" + (humanUuid != null ? "\"humanUuid\":\"" + humanUuid + "\"," : "")
+                + "\"name\":\"Senior\",\"contact\":\"010-0000-0000\",\"address\":\"Seoul\",\"homeSize\":\"MEDIUM\","
+                + "\"mobility\":\"GOOD\",\"petExperience\":true,\"outingHours\":2}";
+    }
+
+    private static String candidate(double score) {
+        return "{\"dogUuid\":\"" + UUID.randomUUID() + "\",\"score\":" + score + ",\"reason\":\"Similar activity\"}";
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    private record Operation(String name, int weight, boolean downstream, Set<Integer> expected,
+                             RequestFactory request) {
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest apply(Random random, int token);
+    }
+
+    private static final class Recorder {
+
+        private long[] latencies = new long[1024];
+        private int count;
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private volatile double seconds;
+
+        private synchronized void record(long nanos, int status, boolean expected) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (!expected) {
+                errors.increment();
+            }
+        }
+
+        private synchronized long count() {
+            return count;
+        }
+
+        private long errors() {
+            return errors.sum();
+        }
+
+        private Map<Integer, Long> statuses() {
+            return statuses.entrySet().stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum(), (a, b) -> a, TreeMap::new));
+        }
+
+        private synchronized long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.classnation.dashboardservice.benchmark;
+
+import org.classnation.dashboardservice.entity.Activity;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.DogSize;
+import org.classnation.dashboardservice.entity.Temperament;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares loading dogs the way PUT /api/dashboard/dogs/{uuid} does (one transaction with a find and a save per
+ * row) against the bulk path (one IN query plus JDBC batch inserts). Runs against in-memory H2, so absolute
+ * numbers are higher than on MySQL; the ratio is what matters.
+ * <p>
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DogBulkUpsertBenchmark {
+
+    private static final int DOGS = 5000;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void bulkUpsertOutperformsRowByRowUpsert() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Warm up both paths
+        rowByRow(transaction, dogs(500));
+        bulk(transaction, dogs(500));
+
+        double rowByRow = rowByRow(transaction, dogs(DOGS));
+        double bulk = bulk(transaction, dogs(DOGS));
+
+        System.out.printf("Upserting %d new dogs%n", DOGS);
+        System.out.printf("  row by row (find + save per tx): %10.1f dogs/s%n", rowByRow);
+        System.out.printf("  bulk (IN query + JDBC batch)   : %10.1f dogs/s%n", bulk);
+
+        assertThat(dogRepository.count()).isEqualTo(2L * DOGS + 1000);
+        assertThat(bulk).isGreaterThan(rowByRow);
+    }
+
+    private double rowByRow(TransactionTemplate transaction, List<Dog> dogs) {
+        long start = System.nanoTime();
+
+        for (Dog dog : dogs) {
+            transaction.executeWithoutResult(status -> {
+                Dog entity = dogRepository.findByDogUuid(dog.getDogUuid()).orElse(dog);
+                dogRepository.save(entity);
+            });
+        }
+
+        return dogs.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private double bulk(TransactionTemplate transaction, List<Dog> dogs) {
+        long start = System.nanoTime();
+
+        transaction.executeWithoutResult(status -> {
+            List<String> existing = dogRepository.findExistingDogUuids(
+                    dogs.stream().map(Dog::getDogUuid).toList());
+            assertThat(existing).isEmpty();
+            dogRepository.batchInsert(dogs);
+        });
+
+        return dogs.size() / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private List<Dog> dogs(int count) {
+        List<Dog> dogs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dogs.add(Dog.builder()
+                    .dogUuid(UUID.randomUUID().toString())
+                    .shelterName("Benchmark Shelter")
+                    .name("dog-" + i)
+                    .size(DogSize.MEDIUM)
+                    .activity(Activity.MEDIUM)
+                    .temperament(Temperament.CALM)
+                    .isAdopted(false)
+                    .build());
+        }
+        return dogs;
+    }
+}
@@ -0,0 +1,161 @@
+package org.classnation.dashboardservice.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for a downstream service: answers registered routes with canned JSON after an injected delay, or
+ * with an injected 503. Handlers run on virtual threads, so injected latency never limits the stub's concurrency.
+ */
+final class DownstreamStub implements AutoCloseable {
+
+    private final String name;
+    private final Faults faults;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Route> routes = new ArrayList<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    DownstreamStub(String name, Faults faults) throws IOException {
+        this.name = name;
+        this.faults = faults;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * Answers {@code method} requests whose path matches {@code pathPattern} with the JSON built from the match,
+     * or with an empty 200 when {@code body} returns null.
+     */
+    DownstreamStub route(String method, String pathPattern, Function<Matcher, String> body) {
+        routes.add(new Route(method, Pattern.compile(pathPattern), body));
+        return this;
+    }
+
+    DownstreamStub start() {
+        server.start();
+        return this;
+    }
+
+    String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    String describe() {
+        return String.format("%s stub: %d requests, %d injected errors (%s)",
+                name, requests.sum(), injectedErrors.sum(), faults);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+            requests.increment();
+
+            String path = exchange.getRequestURI().getPath();
+            for (Route route : routes) {
+                Matcher matcher = route.path().matcher(path);
+                if (route.method().equals(exchange.getRequestMethod()) && matcher.matches()) {
+                    faults.delay();
+                    if (faults.fail()) {
+                        injectedErrors.increment();
+                        respond(exchange, 503, "{\"error\":\"injected\"}");
+                    } else {
+                        respond(exchange, 200, route.body().apply(matcher));
+                    }
+                    return;
+                }
+            }
+            respond(exchange, 404, "{\"error\":\"no stub route\"}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        if (json == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private record Route(String method, Pattern path, Function<Matcher, String> body) {
+    }
+
+    /**
+     * Injected behaviour: every answer takes {@code latency} plus up to {@code jitter}, a {@code tailRate} fraction
+     * takes {@code tailLatency} instead, and an {@code errorRate} fraction answers 503.
+     */
+    record Faults(Duration latency, Duration jitter, double tailRate, Duration tailLatency, double errorRate) {
+
+        /**
+         * Reads {@code benchmark.<service>.latency}, {@code .jitter}, {@code .tail-rate}, {@code .tail-latency}
+         * and {@code .error-rate}, e.g. {@code -Dbenchmark.report-service.error-rate=0.05}.
+         */
+        static Faults fromSystemProperties(String service, Faults defaults) {
+            String prefix = "benchmark." + service + ".";
+            return new Faults(
+                    duration(prefix + "latency", defaults.latency()),
+                    duration(prefix + "jitter", defaults.jitter()),
+                    Double.parseDouble(System.getProperty(prefix + "tail-rate", String.valueOf(defaults.tailRate()))),
+                    duration(prefix + "tail-latency", defaults.tailLatency()),
+                    Double.parseDouble(System.getProperty(prefix + "error-rate", String.valueOf(defaults.errorRate()))));
+        }
+
+        private static Duration duration(String property, Duration defaultValue) {
+            String value = System.getProperty(property);
+            return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+        }
+
+        private void delay() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long millis = random.nextDouble() < tailRate
+                    ? tailLatency.toMillis()
+                    : latency.toMillis() + (jitter.isZero() ? 0 : random.nextLong(jitter.toMillis() + 1));
+            if (millis > 0) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        private boolean fail() {
+            return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("latency %d+%d ms, %.1f%% at %d ms, %.1f%% errors", latency.toMillis(),
+                    jitter.toMillis(), tailRate * 100, tailLatency.toMillis(), errorRate * 100);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package org.classnation.dashboardservice.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.classnation.dashboardservice.config.EntityCacheConfig;
+import org.classnation.dashboardservice.dto.UpdateAdoptionStatusRequest;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.DogSize;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.HomeSize;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.classnation.dashboardservice.service.DogService;
+import org.classnation.dashboardservice.service.OutboxService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the dog adoption-status and human existence lookups behind the status endpoints with the entity cache
+ * cold (evicted before every lookup, so each one queries the database) and warm, counting JDBC statements per
+ * lookup. Also checks that entity saves, claims and JDBC bulk updates are visible through the cache and evict only
+ * the rows they wrote.
+ * <p>
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        // The services log every lookup at INFO
+        "logging.level.org.classnation.dashboardservice=WARN",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({EntityCacheConfig.class, DogService.class, OutboxService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheBenchmark {
+
+    private static final int ROWS = 2000;
+    private static final int LOOKUPS = 20_000;
+
+    @Autowired
+    private DogService dogService;
+
+    @Autowired
+    private DogRepository dogRepository;
+
+    @Autowired
+    private HumanRepository humanRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void statusLookupsAreServedFromTheCache() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<String> dogUuids = uuids();
+        List<String> humanUuids = uuids();
+        transaction.executeWithoutResult(status -> {
+            dogRepository.batchInsert(dogUuids.stream().map(EntityCacheBenchmark::dog).toList());
+            humanRepository.batchInsert(humanUuids.stream().map(EntityCacheBenchmark::human).toList());
+        });
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up both paths
+        lookups(dogUuids, humanUuids, true);
+        lookups(dogUuids, humanUuids, false);
+
+        statistics.clear();
+        double cold = lookups(dogUuids, humanUuids, true);
+        double coldStatements = (double) statistics.getPrepareStatementCount() / LOOKUPS;
+
+        // Leave every row cached, as after an admin has looked at it once
+        for (int i = 0; i < ROWS; i++) {
+            dogService.checkAdoptionStatus(dogUuids.get(i));
+            humanRepository.existsByHumanUuid(humanUuids.get(i));
+        }
+
+        statistics.clear();
+        double warm = lookups(dogUuids, humanUuids, false);
+        double warmStatements = (double) statistics.getPrepareStatementCount() / LOOKUPS;
+        double hitRatio = (double) statistics.getNaturalIdCacheHitCount()
+                / (statistics.getNaturalIdCacheHitCount() + statistics.getNaturalIdCacheMissCount());
+
+        System.out.printf("%d status lookups over %d dogs and %d humans%n", LOOKUPS, ROWS, ROWS);
+        System.out.printf("  cold cache: %9.1f lookups/s, %.2f statements per lookup%n", cold, coldStatements);
+        System.out.printf("  warm cache: %9.1f lookups/s, %.2f statements per lookup, natural-id hit ratio %.3f%n",
+                warm, warmStatements, hitRatio);
+
+        assertThat(warmStatements).isZero();
+        assertThat(hitRatio).isEqualTo(1.0);
+        assertThat(warm).isGreaterThan(cold);
+
+        // Entity saves write through; claims and JDBC bulk updates evict only the rows they wrote
+        String dogUuid = dogUuids.get(0);
+        dogService.updateAdoptionStatus(dogUuid, UpdateAdoptionStatusRequest.builder().isAdopted(true).build());
+        assertThat(dogService.checkAdoptionStatus(dogUuid).getIsAdopted()).isTrue();
+
+        String claimedUuid = dogUuids.get(1);
+        transaction.executeWithoutResult(status ->
+                assertThat(dogRepository.claimForAdoption(claimedUuid, LocalDateTime.now())).isOne());
+        assertThat(cached(Dog.class)).isEqualTo(ROWS - 1);
+        assertThat(dogService.checkAdoptionStatus(claimedUuid).getIsAdopted()).isTrue();
+
+        String humanUuid = humanUuids.get(0);
+        Human renamed = human(humanUuid);
+        renamed.setName("Renamed");
+        transaction.executeWithoutResult(status -> humanRepository.batchUpdate(List.of(renamed)));
+        assertThat(cached(Human.class)).isEqualTo(ROWS - 1);
+        assertThat(humanRepository.findByHumanUuid(humanUuid).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    // Scalar ids, so counting loads nothing into the cache
+    private long cached(Class<?> entityClass) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("SELECT e.id FROM " + entityClass.getSimpleName() + " e", Long.class)
+                    .getResultStream()
+                    .filter(id -> entityManagerFactory.getCache().contains(entityClass, id))
+                    .count();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private double lookups(List<String> dogUuids, List<String> humanUuids, boolean evict) {
+        Random random = new Random(7);
+        long start = System.nanoTime();
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (evict) {
+                entityManagerFactory.getCache().evictAll();
+            }
+            if (i % 2 == 0) {
+                dogService.checkAdoptionStatus(dogUuids.get(random.nextInt(ROWS)));
+            } else {
+                assertThat(humanRepository.existsByHumanUuid(humanUuids.get(random.nextInt(ROWS)))).isTrue();
+            }
+        }
+
+        return LOOKUPS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    private static List<String> uuids() {
+        List<String> uuids = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            uuids.add(UUID.randomUUID().toString());
+        }
+        return uuids;
+    }
+
+    private static Dog dog(String dogUuid) {
+        return Dog.builder()
+                .dogUuid(dogUuid)
+                .name("Dog")
+                .size(DogSize.MEDIUM)
+                .isAdopted(false)
+                .build();
+    }
+
+    private static Human human(String humanUuid) {
+        return Human.builder()
+                .humanUuid(humanUuid)
+                .name("Senior")
+                .homeSize(HomeSize.MEDIUM)
+                .initialConsulted(false)
+                .isMatched(false)
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package org.classnation.dashboardservice.benchmark;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.classnation.dashboardservice.config.EntityCacheConfig;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.entity.HomeSize;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.classnation.dashboardservice.repository.HumanStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the human status lookup in the default configuration, with the second-level cache enabled: a miss
+ * (cache evicted before every lookup), which loads the whole entity and caches it, and a hit. Both are compared with
+ * the status projection that the lookup runs when the cache is disabled. Each lookup runs in its own read-only
+ * transaction like the status endpoints. Humans carry a filled-in address, the TEXT column the projection leaves
+ * out.
+ * <p>
+ * Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Import(EntityCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StatusProjectionBenchmark {
+
+    private static final int ROWS = 2000;
+    private static final int LOOKUPS = 20_000;
+    private static final String ADDRESS = "101-1203, 42 Hangang-daero, Yongsan-gu, Seoul. ".repeat(10);
+
+    @Autowired
+    private HumanRepository humanRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void cachedStatusBeatsTheProjection() {
+        List<String> humanUuids = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            humanUuids.add(UUID.randomUUID().toString());
+        }
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                humanRepository.batchInsert(humanUuids.stream().map(StatusProjectionBenchmark::human).toList()));
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Function<String, Boolean> lookup = humanUuid -> readOnly.execute(status ->
+                humanRepository.findStatusByHumanUuid(humanUuid).orElseThrow().isMatched());
+        Function<String, Boolean> miss = humanUuid -> {
+            entityManagerFactory.getCache().evictAll();
+            return lookup.apply(humanUuid);
+        };
+        // What findStatusByHumanUuid selects when the cache is disabled
+        Function<String, Boolean> projection = humanUuid -> readOnly.execute(status -> entityManager.createQuery("""
+                        SELECT new org.classnation.dashboardservice.repository.HumanStatus(
+                            h.initialConsulted, h.isMatched)
+                        FROM Human h WHERE h.humanUuid = :humanUuid
+                        """, HumanStatus.class)
+                .setParameter("humanUuid", humanUuid)
+                .getSingleResult()
+                .isMatched());
+
+        // Warm up every path; the last one leaves every human cached
+        measure(humanUuids, miss);
+        measure(humanUuids, projection);
+        for (String humanUuid : humanUuids) {
+            lookup.apply(humanUuid);
+        }
+        measure(humanUuids, lookup);
+
+        Result missResult = measure(humanUuids, miss);
+        Result projectionResult = measure(humanUuids, projection);
+        for (String humanUuid : humanUuids) {
+            lookup.apply(humanUuid);
+        }
+        Result hitResult = measure(humanUuids, lookup);
+
+        System.out.printf("%d human status lookups over %d humans (%d-char address), entity cache enabled%n",
+                LOOKUPS, ROWS, ADDRESS.length());
+        System.out.printf("  cache miss: %s%n", missResult);
+        System.out.printf("  cache hit:  %s%n", hitResult);
+        System.out.printf("  projection: %s%n", projectionResult);
+
+        assertThat(hitResult.microsPerLookup()).isLessThan(projectionResult.microsPerLookup());
+        assertThat(hitResult.bytesPerLookup()).isLessThan(projectionResult.bytesPerLookup());
+        assertThat(projectionResult.bytesPerLookup()).isLessThan(missResult.bytesPerLookup());
+    }
+
+    private static Result measure(List<String> humanUuids, Function<String, Boolean> lookup) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Random random = new Random(7);
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertThat(lookup.apply(humanUuids.get(random.nextInt(ROWS)))).isFalse();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(LOOKUPS / (elapsed / 1_000_000_000.0), elapsed / 1_000.0 / LOOKUPS, allocated / LOOKUPS);
+    }
+
+    private static Human human(String humanUuid) {
+        return Human.builder()
+                .humanUuid(humanUuid)
+                .name("Senior")
+                .contact("010-1234-5678")
+                .address(ADDRESS)
+                .homeSize(HomeSize.MEDIUM)
+                .petExperience(true)
+                .outingHours(2)
+                .initialConsulted(false)
+                .isMatched(false)
+                .build();
+    }
+
+    private record Result(double lookupsPerSecond, double microsPerLookup, long bytesPerLookup) {
+
+        @Override
+        public String toString() {
+            return String.format("%9.1f lookups/s, %6.1f us/lookup, %7d bytes allocated/lookup",
+                    lookupsPerSecond, microsPerLookup, bytesPerLookup);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package org.classnation.dashboardservice.benchmark;
+
+import org.classnation.dashboardservice.entity.UuidBinaryConverter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a VARCHAR(36) unique UUID index against a BINARY(16) one: storage size and point-lookup latency.
+ * <p>
+ * Runs against a file-backed H2 database in a temporary directory by default, where the size is the on-disk
+ * footprint of each table reported by {@code DISK_SPACE_USED} (H2 does not report index sizes separately). Point
+ * it at MySQL to read the unique index size from {@code information_schema.TABLES.INDEX_LENGTH}, e.g.
+ * {@code gradle benchmark -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/bench -Dbenchmark.jdbc.user=root
+ * -Dbenchmark.jdbc.password=...}
+ * <p>
+ * Both tables are loaded before anything is timed, and lookups alternate between them in rounds after a shared
+ * warm-up, so neither layout is measured with a colder JIT or a fuller heap than the other.
+ */
+@Tag("benchmark")
+class UuidStorageBenchmark {
+
+    private static final int ROWS = Integer.getInteger("benchmark.uuid.rows", 100_000);
+    private static final int ROUNDS = 10;
+    private static final int LOOKUPS_PER_ROUND = 5_000;
+    private static final int WARMUP_ROUNDS = 5;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void binaryUuidIndexIsSmallerAndNoSlowerThanVarchar() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:file:" + dir.resolve("uuidbench").toAbsolutePath() + ";MODE=MySQL");
+
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.user", "sa"), System.getProperty("benchmark.jdbc.password", ""))) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+
+            List<String> uuids = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                uuids.add(UUID.randomUUID().toString());
+            }
+
+            Layout varchar = new Layout("uuid_bench_varchar", "VARCHAR(36)", false);
+            Layout binary = new Layout("uuid_bench_binary", "BINARY(16)", true);
+            try {
+                for (Layout layout : List.of(varchar, binary)) {
+                    layout.load(connection, uuids);
+                }
+
+                Random random = new Random(42);
+                for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+                    boolean measured = round >= WARMUP_ROUNDS;
+                    // Alternate which layout goes first so neither always runs right after the other's garbage
+                    List<Layout> order = round % 2 == 0 ? List.of(varchar, binary) : List.of(binary, varchar);
+                    for (Layout layout : order) {
+                        layout.lookups(connection, uuids, random, measured);
+                    }
+                }
+
+                long varcharBytes = storageBytes(connection, mysql, varchar.table);
+                long binaryBytes = storageBytes(connection, mysql, binary.table);
+                Result varcharResult = varchar.result(varcharBytes);
+                Result binaryResult = binary.result(binaryBytes);
+
+                System.out.printf("UUID unique index with %d rows (%s)%n", ROWS,
+                        mysql ? "MySQL, index size" : "H2, table size on disk");
+                System.out.printf("  VARCHAR(36): size %8.1f KiB, lookup mean %6.1f us, p99 %6.1f us%n",
+                        varcharResult.sizeBytes() / 1024.0, varcharResult.meanMicros(), varcharResult.p99Micros());
+                System.out.printf("  BINARY(16) : size %8.1f KiB, lookup mean %6.1f us, p99 %6.1f us%n",
+                        binaryResult.sizeBytes() / 1024.0, binaryResult.meanMicros(), binaryResult.p99Micros());
+
+                assertThat(binaryResult.sizeBytes()).isPositive().isLessThan(varcharResult.sizeBytes());
+                // Shorter keys must not cost lookup time; allow 10% for timer noise on a shared machine
+                assertThat(binaryResult.meanMicros()).isLessThanOrEqualTo(varcharResult.meanMicros() * 1.1);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP TABLE IF EXISTS " + varchar.table);
+                    statement.execute("DROP TABLE IF EXISTS " + binary.table);
+                }
+            }
+        }
+    }
+
+    private long storageBytes(Connection connection, boolean mysql, String table) throws SQLException {
+        if (!mysql) {
+            try (Statement statement = connection.createStatement()) {
+                // Flush the in-memory pages so the file reflects every row
+                statement.execute("CHECKPOINT SYNC");
+            }
+            try (PreparedStatement size = connection.prepareStatement("SELECT DISK_SPACE_USED(?)")) {
+                size.setString(1, table.toUpperCase());
+                try (ResultSet rs = size.executeQuery()) {
+                    return rs.next() ? rs.getLong(1) : 0;
+                }
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+        }
+        // The unique UUID index is the only secondary index, so INDEX_LENGTH is its size
+        try (PreparedStatement size = connection.prepareStatement("""
+                SELECT index_length FROM information_schema.tables
+                WHERE table_schema = DATABASE() AND table_name = ?
+                """)) {
+            size.setString(1, table);
+            try (ResultSet rs = size.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        }
+    }
+
+    private static final class Layout {
+
+        private final String table;
+        private final String columnType;
+        private final boolean binary;
+        private final long[] latencies = new long[ROUNDS * LOOKUPS_PER_ROUND];
+        private int measured;
+
+        Layout(String table, String columnType, boolean binary) {
+            this.table = table;
+            this.columnType = columnType;
+            this.binary = binary;
+        }
+
+        void load(Connection connection, List<String> uuids) throws SQLException {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, uuid "
+                        + columnType + " NOT NULL, CONSTRAINT uk_" + table + " UNIQUE (uuid))");
+            }
+
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO " + table + " (uuid) VALUES (?)")) {
+                for (int i = 0; i < uuids.size(); i++) {
+                    bind(insert, uuids.get(i));
+                    insert.addBatch();
+                    if (i % 1000 == 999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            connection.setAutoCommit(true);
+        }
+
+        void lookups(Connection connection, List<String> uuids, Random random, boolean record) throws SQLException {
+            try (PreparedStatement select = connection.prepareStatement(
+                    "SELECT id FROM " + table + " WHERE uuid = ?")) {
+                for (int i = 0; i < LOOKUPS_PER_ROUND; i++) {
+                    // Conversion to bytes is part of every production lookup, so it stays inside the timing
+                    String uuid = uuids.get(random.nextInt(uuids.size()));
+                    long start = System.nanoTime();
+                    bind(select, uuid);
+                    try (ResultSet rs = select.executeQuery()) {
+                        assertThat(rs.next()).isTrue();
+                    }
+                    if (record) {
+                        latencies[measured++] = System.nanoTime() - start;
+                    }
+                }
+            }
+        }
+
+        Result result(long sizeBytes) {
+            long[] sorted = Arrays.copyOf(latencies, measured);
+            Arrays.sort(sorted);
+            return new Result(sizeBytes,
+                    Arrays.stream(sorted).average().orElse(0) / 1000.0,
+                    sorted[(int) (sorted.length * 0.99)] / 1000.0);
+        }
+
+        private void bind(PreparedStatement statement, String uuid) throws SQLException {
+            if (binary) {
+                // Typed as BINARY like the bulk repositories; H2 coerces a VARBINARY parameter on every comparison
+                statement.setObject(1, UuidBinaryConverter.toBytes(uuid), Types.BINARY);
+            } else {
+                statement.setString(1, uuid);
+            }
+        }
+    }
+
+    private record Result(long sizeBytes, double meanMicros, double p99Micros) {
+    }
+}
@@ -0,0 +1,191 @@
+package org.classnation.dashboardservice.benchmark;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.classnation.dashboardservice.DashboardServiceApplication;
+import org.classnation.dashboardservice.entity.HomeSize;
+import org.classnation.dashboardservice.entity.Human;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares throughput of GET /api/dashboard/matching/{uuid}/candidates, which blocks its servlet thread on
+ * report-service, with the whole service running on Tomcat's default 200 platform threads and again with
+ * {@code spring.threads.virtual.enabled=true}. Each run starts the application on in-memory H2 against a local
+ * report-service stub answering after a fixed delay, and fires all requests at once. The matching cache, the
+ * report-service concurrency limiter, the connection pool cap and the timeouts are switched off or raised, so only
+ * the request-handling thread model limits concurrency.
+ * <p>
+ * Run with {@code gradle benchmark --tests '*VirtualThreadBlockingBenchmark'}.
+ */
+@Tag("benchmark")
+class VirtualThreadBlockingBenchmark {
+
+    private static final int CONCURRENT_CALLS = 1000;
+    private static final int HUMANS = 500;
+    private static final int TOMCAT_DEFAULT_MAX_THREADS = 200;
+    private static final Duration DOWNSTREAM_LATENCY = Duration.ofMillis(500);
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private static DownstreamStub reportService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @BeforeAll
+    static void startReportService() throws IOException {
+        reportService = new DownstreamStub("report-service",
+                new DownstreamStub.Faults(DOWNSTREAM_LATENCY, Duration.ZERO, 0, Duration.ZERO, 0))
+                .route("GET", "/report-service/matching/seniors/([^/]+)", match -> "{\"candidates\":[{\"dogUuid\":\""
+                        + UUID.randomUUID() + "\",\"score\":0.92,\"reason\":\"Similar activity\"}]}")
+                .start();
+    }
+
+    @AfterAll
+    static void stopReportService() {
+        reportService.close();
+    }
+
+    @Test
+    void virtualThreadsOutperformPlatformPoolOnSlowDownstream() throws Exception {
+        double platform = throughput(false);
+        double virtual = throughput(true);
+
+        System.out.printf("%d concurrent GET /matching/{uuid}/candidates at %d ms report-service latency%n",
+                CONCURRENT_CALLS, DOWNSTREAM_LATENCY.toMillis());
+        System.out.printf("  platform pool (%d threads): %8.1f req/s%n", TOMCAT_DEFAULT_MAX_THREADS, platform);
+        System.out.printf("  virtual threads           : %8.1f req/s%n", virtual);
+        System.out.println("  " + reportService.describe());
+
+        assertThat(virtual).isGreaterThan(platform);
+    }
+
+    private double throughput(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            List<String> humanUuids = seed(context);
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String token = token();
+
+            // Warm up connections and JIT before measuring
+            run(port, token, humanUuids);
+            return run(port, token, humanUuids);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        // Command-line arguments, so they win over application.properties
+        return new SpringApplicationBuilder(DashboardServiceApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_DEFAULT_MAX_THREADS,
+                "--spring.datasource.url=jdbc:h2:mem:virtual-" + virtualThreads + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.org.hibernate.SQL=INFO",
+                "--logging.level.org.classnation.dashboardservice=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--security.jwt.verification-mode=LOCAL",
+                "--security.jwt.keys.bench=" + SECRET,
+                "--external.report-service.url=" + reportService.url(),
+                "--external.report-service.limiter.enabled=false",
+                "--external.report-service.pool.max-connections=" + CONCURRENT_CALLS,
+                "--external.report-service.pool.pending-acquire-max-count=-1",
+                "--external.report-service.response-timeout=60s",
+                "--resilience4j.timelimiter.instances.reportService.timeout-duration=60s",
+                "--resilience4j.circuitbreaker.instances.reportService.slow-call-duration-threshold=60s",
+                "--dashboard.matching-cache.enabled=false");
+    }
+
+    private static List<String> seed(ConfigurableApplicationContext context) {
+        List<String> humanUuids = new ArrayList<>(HUMANS);
+        for (int i = 0; i < HUMANS; i++) {
+            humanUuids.add(UUID.randomUUID().toString());
+        }
+        HumanRepository humanRepository = context.getBean(HumanRepository.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(status ->
+                humanRepository.batchInsert(humanUuids.stream().map(VirtualThreadBlockingBenchmark::human).toList()));
+        return humanUuids;
+    }
+
+    private double run(int port, String token, List<String> humanUuids) throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(CONCURRENT_CALLS);
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                + "/api/dashboard/matching/" + humanUuids.get(i % HUMANS) + "/candidates?top=1"))
+                        .timeout(Duration.ofSeconds(60))
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build();
+                futures.add(executor.submit(() ->
+                        client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode()));
+            }
+            for (Future<Integer> future : futures) {
+                assertThat(future.get()).isEqualTo(200);
+            }
+        }
+
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return CONCURRENT_CALLS / seconds;
+    }
+
+    private static String token() {
+        return Jwts.builder()
+                .setHeaderParam("kid", "bench")
+                .setSubject("benchmark-admin")
+                .claim("sid", "benchmark")
+                .claim("role", "ADMIN")
+                .claim("type", "access")
+                .setExpiration(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static Human human(String humanUuid) {
+        return Human.builder()
+                .humanUuid(humanUuid)
+                .name("Senior")
+                .contact("010-0000-0000")
+                .address("Seoul")
+                .homeSize(HomeSize.MEDIUM)
+                .petExperience(true)
+                .outingHours(2)
+                .initialConsulted(false)
+                .isMatched(false)
+                .build();
+    }
+}
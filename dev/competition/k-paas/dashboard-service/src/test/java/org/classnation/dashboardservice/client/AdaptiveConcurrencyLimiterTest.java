@@ -0,0 +1,149 @@
+package org.classnation.dashboardservice.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import org.classnation.dashboardservice.exception.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.net.ConnectException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void successfulAnswersRaiseTheLimitOnlyWhileItIsUsed() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 10);
+        ExchangeFunction ok = request -> Mono.just(ClientResponse.create(HttpStatus.OK).build());
+
+        // One of two permits in use counts as using the limit
+        call(limiter, ok, 1);
+        assertThat(gauge("concurrency.limiter.limit")).isEqualTo(3);
+
+        // One of three does not, so the limit stays put
+        call(limiter, ok, 2);
+        assertThat(gauge("concurrency.limiter.limit")).isEqualTo(3);
+    }
+
+    @Test
+    void overloadSignalsCutTheLimitDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 10);
+
+        call(limiter, request -> Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()), 1);
+        assertThat(gauge("concurrency.limiter.limit")).isEqualTo(4);
+
+        call(limiter, request -> Mono.just(ClientResponse.create(HttpStatus.TOO_MANY_REQUESTS).build()), 2);
+        assertThat(gauge("concurrency.limiter.limit")).isEqualTo(2);
+
+        StepVerifier.create(limiter.filter(request(3), request -> Mono.error(new ConnectException("refused"))))
+                .expectError(ConnectException.class)
+                .verify();
+        // Clamped at min-limit
+        assertThat(gauge("concurrency.limiter.limit")).isEqualTo(2);
+        assertThat(gauge("concurrency.limiter.in.flight")).isZero();
+    }
+
+    @Test
+    void waitersAreAdmittedInArrivalOrder() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10);
+        Downstream downstream = new Downstream();
+
+        List<Integer> answered = new CopyOnWriteArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            int call = i;
+            limiter.filter(request(call), downstream).subscribe(response -> answered.add(call));
+        }
+
+        assertThat(downstream.started).containsExactly(1);
+        assertThat(gauge("concurrency.limiter.queued")).isEqualTo(3);
+
+        for (int call = 1; call <= 4; call++) {
+            downstream.answer(call);
+        }
+
+        // Each answer hands its permit to the longest waiting call
+        assertThat(downstream.started).containsExactly(1, 2, 3, 4);
+        assertThat(answered).containsExactly(1, 2, 3, 4);
+        assertThat(gauge("concurrency.limiter.queued")).isZero();
+    }
+
+    @Test
+    void callsBeyondAFullQueueAreRejectedAtOnce() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        Downstream downstream = new Downstream();
+
+        limiter.filter(request(1), downstream).subscribe();
+        limiter.filter(request(2), downstream).subscribe();
+
+        StepVerifier.create(limiter.filter(request(3), downstream))
+                .expectError(ConcurrencyLimitExceededException.class)
+                .verify();
+
+        assertThat(downstream.started).containsExactly(1);
+        assertThat(meterRegistry.get("concurrency.limiter.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue) {
+        ExternalServiceProperties.Limiter properties = new ExternalServiceProperties.Limiter();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(20);
+        properties.setBackoffRatio(0.5);
+        properties.setMaxQueue(maxQueue);
+        properties.setMaxWait(Duration.ofSeconds(30));
+
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("downstream", properties, meterRegistry);
+        limiter.bindTo(meterRegistry);
+        return limiter;
+    }
+
+    private void call(AdaptiveConcurrencyLimiter limiter, ExchangeFunction next, int call) {
+        StepVerifier.create(limiter.filter(request(call), next))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private static ClientRequest request(int call) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("http://downstream/" + call)).build();
+    }
+
+    /**
+     * Holds every exchange open until the test answers it and remembers the order the exchanges started in.
+     */
+    private static final class Downstream implements ExchangeFunction {
+
+        private final List<Integer> started = new CopyOnWriteArrayList<>();
+        private final Map<Integer, Sinks.One<ClientResponse>> pending = new ConcurrentHashMap<>();
+
+        @Override
+        public Mono<ClientResponse> exchange(ClientRequest request) {
+            int call = Integer.parseInt(request.url().getPath().substring(1));
+            started.add(call);
+            return pending.computeIfAbsent(call, key -> Sinks.one()).asMono();
+        }
+
+        void answer(int call) {
+            pending.get(call).tryEmitValue(ClientResponse.create(HttpStatus.OK).build());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.classnation.dashboardservice.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestHedgerTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofSeconds(1);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void sendsTheHedgeAfterTheDelayAndCancelsTheLoser() {
+        RequestHedger hedger = hedger(10);
+        Downstream downstream = new Downstream(Duration.ofSeconds(5), Duration.ofMillis(100));
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("lookup", downstream::call))
+                .expectSubscription()
+                .thenAwait(HEDGE_DELAY.minusMillis(1))
+                .then(() -> assertThat(downstream.calls).hasValue(1))
+                .thenAwait(Duration.ofMillis(1))
+                .then(() -> assertThat(downstream.calls).hasValue(2))
+                .thenAwait(Duration.ofMillis(100))
+                .expectNext("answer-2")
+                .verifyComplete();
+
+        assertThat(downstream.cancelled).containsExactly(1);
+        assertThat(count("hedged.request.hedges")).isEqualTo(1);
+        assertThat(count("hedged.request.hedge.wins")).isEqualTo(1);
+        // The cancelled primary is recorded as well as the winning hedge
+        assertThat(attempts()).isEqualTo(2);
+    }
+
+    @Test
+    void primaryAnsweringBeforeTheDelaySendsNoHedge() {
+        RequestHedger hedger = hedger(10);
+        Downstream downstream = new Downstream(Duration.ofMillis(200));
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("lookup", downstream::call))
+                .expectSubscription()
+                .thenAwait(Duration.ofMillis(200))
+                .expectNext("answer-1")
+                .verifyComplete();
+
+        assertThat(downstream.calls).hasValue(1);
+        assertThat(count("hedged.request.hedges")).isZero();
+    }
+
+    @Test
+    void exhaustedBudgetSkipsTheHedge() {
+        RequestHedger hedger = hedger(0);
+        Downstream downstream = new Downstream(Duration.ofSeconds(5), Duration.ofMillis(100));
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("lookup", downstream::call))
+                .expectSubscription()
+                .thenAwait(Duration.ofSeconds(5))
+                .expectNext("answer-1")
+                .verifyComplete();
+
+        assertThat(downstream.calls).hasValue(1);
+        assertThat(count("hedged.request.budget.exhausted")).isEqualTo(1);
+        assertThat(count("hedged.request.hedges")).isZero();
+    }
+
+    @Test
+    void primaryFailingBeforeTheDelayIsNotHedgedAndIsRecorded() {
+        RequestHedger hedger = hedger(10);
+        AtomicInteger calls = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> hedger.hedge("lookup", () -> {
+                    calls.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(300))
+                            .then(Mono.<String>error(new IllegalStateException("boom")));
+                }))
+                .expectSubscription()
+                // Fails at once rather than at the hedge delay, so the pending hedge was dropped
+                .thenAwait(Duration.ofMillis(300))
+                .expectErrorMessage("boom")
+                .verify();
+
+        assertThat(calls).hasValue(1);
+        assertThat(attempts()).isEqualTo(1);
+    }
+
+    private RequestHedger hedger(int budgetBurst) {
+        ExternalServiceProperties.Hedging hedging = new ExternalServiceProperties.Hedging();
+        hedging.setEnabled(true);
+        hedging.setMinDelay(Duration.ofMillis(50));
+        // Used as the delay until enough attempts have been seen to estimate the percentile
+        hedging.setMaxDelay(HEDGE_DELAY);
+        hedging.setBudgetRatio(0);
+        hedging.setBudgetBurst(budgetBurst);
+        return new RequestHedger("downstream", hedging, meterRegistry);
+    }
+
+    private double count(String counter) {
+        return meterRegistry.get(counter).counter().count();
+    }
+
+    private long attempts() {
+        return meterRegistry.get("hedged.request.attempt.latency").timer().count();
+    }
+
+    /**
+     * Answers the n-th call after the n-th latency and remembers which calls were cancelled.
+     */
+    private static final class Downstream {
+
+        private final List<Duration> latencies;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<Integer> cancelled = new CopyOnWriteArrayList<>();
+
+        Downstream(Duration... latencies) {
+            this.latencies = List.of(latencies);
+        }
+
+        Mono<String> call() {
+            int call = calls.incrementAndGet();
+            return Mono.delay(latencies.get(call - 1))
+                    .map(tick -> "answer-" + call)
+                    .doOnCancel(() -> cancelled.add(call));
+        }
+    }
+}
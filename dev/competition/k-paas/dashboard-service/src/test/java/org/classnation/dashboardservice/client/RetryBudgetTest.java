@@ -0,0 +1,114 @@
+package org.classnation.dashboardservice.client;
+
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.classnation.dashboardservice.config.ExternalServiceProperties;
+import org.classnation.dashboardservice.exception.ConcurrencyLimitExceededException;
+import org.classnation.dashboardservice.exception.ForbiddenException;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RetryBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void onlyScheduledRetriesSpendTheBudget() {
+        // Two tokens at one token per retry: the failed final attempts must not use them up
+        RetryBudget budget = budget(0, 2);
+        Retry retry = retry(budget);
+
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(2);
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(2);
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(1);
+
+        // The second call's final attempt already found the budget empty, although it had no retry left anyway
+        assertThat(exhausted()).isEqualTo(2);
+    }
+
+    @Test
+    void exchangesRefillTheBudget() {
+        // A retry costs 1.5 tokens and each exchange deposits 0.5
+        RetryBudget budget = budget(0.5, 2);
+        Retry retry = retry(budget);
+
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(2);
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(1);
+
+        exchange(budget);
+        exchange(budget);
+
+        assertThat(attempts(retry, new IllegalStateException("down"))).isEqualTo(2);
+    }
+
+    @Test
+    void limiterRejectionsAreNeverRetried() {
+        RetryBudget budget = budget(0, 10);
+        Retry retry = retry(budget);
+
+        assertThat(attempts(retry, new IllegalStateException("rejected",
+                new ConcurrencyLimitExceededException("limit reached")))).isEqualTo(1);
+
+        assertThat(exhausted()).isZero();
+    }
+
+    @Test
+    void rejectedTokensAreNeverRetried() {
+        RetryBudget budget = budget(0, 10);
+        Retry retry = retry(budget);
+
+        assertThat(attempts(retry, new UnauthorizedException("Token validation failed"))).isEqualTo(1);
+        assertThat(attempts(retry, new ForbiddenException("Insufficient permissions"))).isEqualTo(1);
+
+        assertThat(exhausted()).isZero();
+    }
+
+    private RetryBudget budget(double ratio, int burst) {
+        ExternalServiceProperties.Budget properties = new ExternalServiceProperties.Budget();
+        properties.setRatio(ratio);
+        properties.setBurst(burst);
+        return new RetryBudget("downstream", properties, meterRegistry);
+    }
+
+    private static Retry retry(RetryBudget budget) {
+        Retry retry = Retry.of("downstream", RetryConfig.custom()
+                .maxAttempts(2)
+                .waitDuration(Duration.ofMillis(1))
+                .retryOnException(budget::allowsRetry)
+                .build());
+        budget.attachTo(retry);
+        return retry;
+    }
+
+    private static int attempts(Retry retry, RuntimeException failure) {
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<String> call = Retry.decorateSupplier(retry, () -> {
+            attempts.incrementAndGet();
+            throw failure;
+        });
+
+        assertThatThrownBy(call::get).isSameAs(failure);
+        return attempts.get();
+    }
+
+    private static void exchange(RetryBudget budget) {
+        budget.filter(ClientRequest.create(HttpMethod.GET, URI.create("http://downstream/")).build(),
+                request -> Mono.empty()).block();
+    }
+
+    private double exhausted() {
+        return meterRegistry.get("retry.budget.exhausted").counter().count();
+    }
+}
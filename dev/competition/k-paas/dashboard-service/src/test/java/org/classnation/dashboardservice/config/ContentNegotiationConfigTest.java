@@ -0,0 +1,155 @@
+package org.classnation.dashboardservice.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.classnation.dashboardservice.controller.DogController;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.DogSize;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.EntityVersion;
+import org.classnation.dashboardservice.security.LocalJwtVerifier;
+import org.classnation.dashboardservice.security.TokenVerificationCache;
+import org.classnation.dashboardservice.service.DogService;
+import org.classnation.dashboardservice.service.OutboxService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DogController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({DogService.class, RepresentationNegotiator.class, ContentNegotiationConfig.class})
+class ContentNegotiationConfigTest {
+
+    private static final String DOG_UUID = "0b6e5a2c-4f1d-4c8e-9a3b-7d2f1e6c5b4a";
+    private static final String VARY = "Accept, Accept-Encoding";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DogRepository dogRepository;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @MockitoBean
+    private TokenVerificationCache tokenVerificationCache;
+
+    @MockitoBean
+    private LocalJwtVerifier localJwtVerifier;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "*/*                                      | application/json            | W/\"7-3\"",
+            "application/json                         | application/json            | W/\"7-3\"",
+            "application/cbor                         | application/cbor            | W/\"7-3-cbor\"",
+            "application/x-jackson-smile              | application/x-jackson-smile | W/\"7-3-smile\"",
+            "application/json;q=0.5, application/cbor | application/cbor            | W/\"7-3-cbor\"",
+            "application/*                            | application/json            | W/\"7-3\""})
+    void eachRepresentationHasItsOwnEtag(String accept, String contentType, String etag) throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        MvcResult result = mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.ACCEPT, accept))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(contentType))
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.VARY, VARY))
+                .andReturn();
+
+        assertThat(read(result).path("data").path("name").asText()).isEqualTo("Bori");
+    }
+
+    @Test
+    void missingAcceptDefaultsToJson() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7-3\""));
+    }
+
+    @Test
+    void revalidationOnlyMatchesTheTagOfTheNegotiatedRepresentation() throws Exception {
+        when(dogRepository.findVersionByDogUuid(DOG_UUID)).thenReturn(Optional.of(new EntityVersion(7L, 3L)));
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"7-3-cbor\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7-3-cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, VARY));
+
+        // The client holds the JSON copy of the same state, which cannot stand in for CBOR
+        mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"7-3\""))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7-3-cbor\""));
+    }
+
+    @Test
+    void updateAcceptsATagReadInAnotherRepresentation() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+        when(dogRepository.saveAndFlush(any(Dog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(put("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.IF_MATCH, "W/\"7-3-smile\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "Bori", "size": "MEDIUM", "activity": "LOW", "temperament": "CALM"}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7-3\""));
+    }
+
+    private static JsonNode read(MvcResult result) throws Exception {
+        String contentType = result.getResponse().getContentType();
+        ObjectMapper mapper = contentType.startsWith(MediaType.APPLICATION_CBOR_VALUE)
+                ? new ObjectMapper(new CBORFactory())
+                : contentType.startsWith(RepresentationNegotiator.APPLICATION_SMILE.toString())
+                ? new ObjectMapper(new SmileFactory())
+                : new ObjectMapper();
+        return mapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+
+    private static Dog dog() {
+        return Dog.builder()
+                .id(7L)
+                .dogUuid(DOG_UUID)
+                .name("Bori")
+                .size(DogSize.MEDIUM)
+                .isAdopted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(3L)
+                .build();
+    }
+}
@@ -0,0 +1,156 @@
+package org.classnation.dashboardservice.controller;
+
+import org.classnation.dashboardservice.config.RepresentationNegotiator;
+import org.classnation.dashboardservice.entity.Dog;
+import org.classnation.dashboardservice.entity.DogSize;
+import org.classnation.dashboardservice.repository.DogRepository;
+import org.classnation.dashboardservice.repository.EntityVersion;
+import org.classnation.dashboardservice.security.LocalJwtVerifier;
+import org.classnation.dashboardservice.security.TokenVerificationCache;
+import org.classnation.dashboardservice.service.DogService;
+import org.classnation.dashboardservice.service.OutboxService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DogController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@Import({DogService.class, RepresentationNegotiator.class})
+class DogControllerTest {
+
+    private static final String DOG_UUID = "0b6e5a2c-4f1d-4c8e-9a3b-7d2f1e6c5b4a";
+    private static final String ETAG = "W/\"7-3\"";
+    private static final String BODY = """
+            {"shelterName": "Seoul Shelter", "name": "Bori", "size": "MEDIUM", "activity": "LOW", "temperament": "CALM"}
+            """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DogRepository dogRepository;
+
+    @MockitoBean
+    private OutboxService outboxService;
+
+    @MockitoBean
+    private TokenVerificationCache tokenVerificationCache;
+
+    @MockitoBean
+    private LocalJwtVerifier localJwtVerifier;
+
+    @Test
+    void getReturnsTheDogWithAWeakEtag() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.data.name").value("Bori"));
+    }
+
+    @Test
+    void revalidationWithTheCurrentEtagIsNotModified() throws Exception {
+        when(dogRepository.findVersionByDogUuid(DOG_UUID)).thenReturn(Optional.of(new EntityVersion(7L, 3L)));
+
+        // A strong copy of the tag, e.g. from a cache that stripped W/, still matches weakly
+        for (String ifNoneMatch : new String[]{ETAG, "\"7-3\"", "\"1-1\", " + ETAG}) {
+            mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(content().string(""));
+        }
+
+        verify(dogRepository, never()).findByDogUuid(any());
+    }
+
+    @Test
+    void revalidationWithAStaleEtagReturnsTheDog() throws Exception {
+        when(dogRepository.findVersionByDogUuid(DOG_UUID)).thenReturn(Optional.of(new EntityVersion(7L, 3L)));
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        mockMvc.perform(get("/api/dashboard/dogs/{uuid}", DOG_UUID).header(HttpHeaders.IF_NONE_MATCH, "W/\"7-2\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.data.name").value("Bori"));
+    }
+
+    @Test
+    void updateWithAStaleEtagFailsThePrecondition() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+
+        mockMvc.perform(put("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.IF_MATCH, "W/\"7-2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error.type").value("PRECONDITION_FAILED"));
+
+        verify(dogRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void updateWithTheCurrentEtagReturnsTheNewEtag() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+        when(dogRepository.saveAndFlush(any(Dog.class))).thenAnswer(invocation -> {
+            Dog saved = invocation.getArgument(0);
+            saved.setVersion(saved.getVersion() + 1);
+            return saved;
+        });
+
+        mockMvc.perform(put("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.IF_MATCH, ETAG)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7-4\""));
+    }
+
+    @Test
+    void updateRacingAnotherWriteIsAConflict() throws Exception {
+        when(dogRepository.findByDogUuid(DOG_UUID)).thenReturn(Optional.of(dog()));
+        when(dogRepository.saveAndFlush(any(Dog.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Dog.class, 7L));
+
+        mockMvc.perform(put("/api/dashboard/dogs/{uuid}", DOG_UUID)
+                        .header(HttpHeaders.IF_MATCH, ETAG)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(BODY))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error.type").value("STATE_CONFLICT"));
+    }
+
+    private static Dog dog() {
+        return Dog.builder()
+                .id(7L)
+                .dogUuid(DOG_UUID)
+                .name("Bori")
+                .size(DogSize.MEDIUM)
+                .isAdopted(false)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .version(3L)
+                .build();
+    }
+}
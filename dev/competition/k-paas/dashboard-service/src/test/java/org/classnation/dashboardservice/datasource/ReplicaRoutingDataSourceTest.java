@@ -0,0 +1,184 @@
+package org.classnation.dashboardservice.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.classnation.dashboardservice.config.ReadReplicaDataSourceConfig;
+import org.classnation.dashboardservice.config.ReadReplicaProperties;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = mock(DataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+
+    @AfterEach
+    void clearTransaction() {
+        TransactionSynchronizationManager.clear();
+        new ArrayList<>(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesGoToThePrimaryAndReadsRotateOverTheReplicas() throws SQLException {
+        Replica first = new Replica("replica-0");
+        Replica second = new Replica("replica-1");
+        ReplicaRoutingDataSource routing = routing(first, second);
+
+        assertThat(connection(routing, false)).isSameAs(primaryConnection);
+        assertThat(connection(routing, true)).isSameAs(first.connection);
+        assertThat(connection(routing, true)).isSameAs(second.connection);
+        assertThat(connection(routing, true)).isSameAs(first.connection);
+    }
+
+    @Test
+    void aReplicaFailingToConnectLeavesRotationAndReadsFallBackToThePrimary() throws SQLException {
+        Replica replica = new Replica("replica-0");
+        ReplicaRoutingDataSource routing = routing(replica);
+        when(replica.pool.getConnection()).thenThrow(new SQLException("refused"));
+
+        assertThat(connection(routing, true)).isSameAs(primaryConnection);
+        assertThat(connection(routing, true)).isSameAs(primaryConnection);
+
+        // The startup health check and the first read; not tried again until a health check brings it back
+        verify(replica.pool, times(2)).getConnection();
+        assertThat(meterRegistry.get("datasource.routing.connections").tag("reason", "no-healthy-replica")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void aLaggingReplicaLeavesRotationUntilItCatchesUp() throws SQLException {
+        Replica replica = new Replica("replica-0");
+        ReplicaRoutingDataSource routing = routing(replica);
+
+        replica.lagSeconds(30);
+        routing.checkHealth();
+        assertThat(connection(routing, true)).isSameAs(primaryConnection);
+        assertThat(meterRegistry.get("datasource.replica.healthy").gauge().value()).isZero();
+
+        replica.lagSeconds(0);
+        routing.checkHealth();
+        assertThat(connection(routing, true)).isSameAs(replica.connection);
+    }
+
+    @Test
+    void adminsReadTheirOwnWritesFromThePrimary() throws SQLException {
+        Replica replica = new Replica("replica-0");
+        ReplicaRoutingDataSource routing = routing(replica);
+
+        authenticate("writer");
+        connection(routing, false);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clear();
+
+        assertThat(connection(routing, true)).isSameAs(primaryConnection);
+
+        authenticate("reader");
+        assertThat(connection(routing, true)).isSameAs(replica.connection);
+    }
+
+    @Test
+    void sessionsReadingFromAReplicaStopPuttingIntoTheSecondLevelCache() throws SQLException {
+        Replica replica = new Replica("replica-0");
+        ReplicaRoutingDataSource routing = routing(replica);
+        when(replica.pool.getConnection()).thenReturn(replica.connection).thenThrow(new SQLException("refused"));
+
+        Session replicaSession = bindSession();
+        connection(routing, true);
+        verify(replicaSession).setCacheMode(CacheMode.GET);
+        clearTransaction();
+
+        // The replica is now down, so this read goes to the primary and may fill the cache
+        Session primarySession = bindSession();
+        connection(routing, true);
+        verify(primarySession, never()).setCacheMode(CacheMode.GET);
+    }
+
+    @Test
+    void replicasRequireOpenInViewToBeOff() {
+        assertThatThrownBy(() -> new ReadReplicaDataSourceConfig(true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.jpa.open-in-view=false");
+    }
+
+    private ReplicaRoutingDataSource routing(Replica... replicas) throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+                List.of(replicas).stream().map(replica -> replica.pool).toList(),
+                new ReadReplicaProperties(), meterRegistry);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private Connection connection(ReplicaRoutingDataSource routing, boolean readOnly) throws SQLException {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        return routing.getConnection();
+    }
+
+    private Session bindSession() {
+        Session session = mock(Session.class);
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        TransactionSynchronizationManager.bindResource(new Object(), new EntityManagerHolder(entityManager));
+        return session;
+    }
+
+    private static void authenticate(String admin) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(admin, null));
+    }
+
+    /**
+     * A replica pool whose connections answer the health check with a configurable replication lag.
+     */
+    private static final class Replica {
+
+        private final HikariDataSource pool = mock(HikariDataSource.class);
+        private final Connection connection = mock(Connection.class);
+        private final ResultSet status = mock(ResultSet.class);
+
+        Replica(String name) throws SQLException {
+            Statement statement = mock(Statement.class);
+            when(pool.getPoolName()).thenReturn(name);
+            when(pool.getConnection()).thenReturn(connection);
+            when(connection.isValid(anyInt())).thenReturn(true);
+            when(connection.createStatement()).thenReturn(statement);
+            when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+            lagSeconds(0);
+        }
+
+        void lagSeconds(long lag) throws SQLException {
+            when(status.next()).thenReturn(true);
+            when(status.getLong("Seconds_Behind_Source")).thenReturn(lag);
+        }
+    }
+}
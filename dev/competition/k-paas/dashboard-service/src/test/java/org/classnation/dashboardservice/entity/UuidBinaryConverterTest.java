@@ -0,0 +1,73 @@
+package org.classnation.dashboardservice.entity;
+
+import org.classnation.dashboardservice.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidBinaryConverterTest {
+
+    private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+    @Test
+    void matchesTheLayoutOfMysqlUuidToBin() {
+        // SELECT HEX(UUID_TO_BIN('6ccd780c-baba-1026-9564-5b8c656024db')), from the MySQL reference manual
+        byte[] bytes = converter.convertToDatabaseColumn("6ccd780c-baba-1026-9564-5b8c656024db");
+
+        assertThat(HexFormat.of().withUpperCase().formatHex(bytes)).isEqualTo("6CCD780CBABA102695645B8C656024DB");
+    }
+
+    @Test
+    void roundTripsAgainstJavaUtilUuid() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UUID.randomUUID();
+
+            byte[] bytes = UuidBinaryConverter.toBytes(uuid.toString());
+
+            assertThat(UUID.fromString(UuidBinaryConverter.fromBytes(bytes))).isEqualTo(uuid);
+            assertThat(converter.convertToEntityAttribute(bytes)).isEqualTo(uuid.toString());
+        }
+    }
+
+    @Test
+    void readsBackUpperCaseInputInCanonicalForm() {
+        byte[] bytes = UuidBinaryConverter.toBytes("6CCD780C-BABA-1026-9564-5B8C656024DB");
+
+        assertThat(UuidBinaryConverter.fromBytes(bytes)).isEqualTo("6ccd780c-baba-1026-9564-5b8c656024db");
+    }
+
+    @Test
+    void extremeValuesKeepTheirBits() {
+        assertThat(UuidBinaryConverter.fromBytes(new byte[16])).isEqualTo("00000000-0000-0000-0000-000000000000");
+        assertThat(UuidBinaryConverter.toBytes("ffffffff-ffff-ffff-ffff-ffffffffffff"))
+                .containsOnly((byte) 0xff)
+                .hasSize(16);
+    }
+
+    @Test
+    void nullPassesThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void rejectsInvalidText() {
+        assertThatThrownBy(() -> UuidBinaryConverter.toBytes("6ccd780c-baba-1026-9564-5b8c656024dg"))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void rejectsColumnsThatAreNotSixteenBytes() {
+        assertThatThrownBy(() -> UuidBinaryConverter.fromBytes(new byte[15]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Expected 16 bytes for a binary UUID but got 15");
+        assertThatThrownBy(() -> UuidBinaryConverter.fromBytes(new byte[17]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UuidBinaryConverter.fromBytes(new byte[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
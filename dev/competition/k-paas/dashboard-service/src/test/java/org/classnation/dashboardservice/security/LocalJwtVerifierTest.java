@@ -0,0 +1,81 @@
+package org.classnation.dashboardservice.security;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalJwtVerifierTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final LocalJwtVerifier verifier = new LocalJwtVerifier(properties());
+
+    @Test
+    void acceptsSignedAccessToken() {
+        String token = token().setExpiration(inMinutes(5)).compact();
+
+        assertThat(verifier.verify(token)).get()
+                .extracting(VerifyTokenResponse::getUid, VerifyTokenResponse::getRole)
+                .containsExactly("admin-1", "ADMIN");
+    }
+
+    @Test
+    void rejectsTokenWithoutExpiry() {
+        String token = token().compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = token().setExpiration(inMinutes(-5)).compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void rejectsRefreshToken() {
+        String token = token().claim("type", "refresh").setExpiration(inMinutes(5)).compact();
+
+        assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnauthorizedException.class);
+    }
+
+    @Test
+    void leavesUnknownKidToRemoteVerification() {
+        String token = token().setHeaderParam("kid", "other").setExpiration(inMinutes(5)).compact();
+
+        assertThat(verifier.verify(token)).isEmpty();
+    }
+
+    private static JwtBuilder token() {
+        return Jwts.builder()
+                .setHeaderParam("kid", "k1")
+                .setSubject("admin-1")
+                .claim("sid", "session-1")
+                .claim("role", "ADMIN")
+                .claim("type", "access")
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static Date inMinutes(long minutes) {
+        return new Date(System.currentTimeMillis() + Duration.ofMinutes(minutes).toMillis());
+    }
+
+    private static JwtVerificationProperties properties() {
+        JwtVerificationProperties properties = new JwtVerificationProperties();
+        properties.setVerificationMode(JwtVerificationProperties.VerificationMode.LOCAL);
+        properties.setKeys(Map.of("k1", SECRET));
+        return properties;
+    }
+}
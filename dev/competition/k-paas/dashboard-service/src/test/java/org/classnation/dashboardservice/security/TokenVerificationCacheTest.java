@@ -0,0 +1,115 @@
+package org.classnation.dashboardservice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.classnation.dashboardservice.client.UserServiceClient;
+import org.classnation.dashboardservice.client.dto.VerifyTokenResponse;
+import org.classnation.dashboardservice.exception.ExternalServiceException;
+import org.classnation.dashboardservice.exception.ForbiddenException;
+import org.classnation.dashboardservice.exception.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVerificationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final Duration NEGATIVE_TTL = Duration.ofMillis(300);
+
+    private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+    private final TokenVerificationCache cache = new TokenVerificationCache(userServiceClient, new ObjectMapper(),
+            new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(5), NEGATIVE_TTL);
+
+    @Test
+    void unauthorizedIsCachedForTheNegativeTtl() throws InterruptedException {
+        when(userServiceClient.verifyToken(TOKEN)).thenThrow(new UnauthorizedException("Token validation failed"));
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(UnauthorizedException.class);
+        assertThatThrownBy(() -> cache.verify(TOKEN))
+                .isInstanceOf(UnauthorizedException.class)
+                .hasMessage("Token validation failed");
+        verify(userServiceClient, times(1)).verifyToken(TOKEN);
+
+        Thread.sleep(NEGATIVE_TTL.multipliedBy(2).toMillis());
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(UnauthorizedException.class);
+        verify(userServiceClient, times(2)).verifyToken(TOKEN);
+    }
+
+    @Test
+    void forbiddenIsCached() {
+        when(userServiceClient.verifyToken(TOKEN)).thenThrow(new ForbiddenException("Insufficient permissions"));
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> cache.verify(TOKEN))
+                .isInstanceOf(ForbiddenException.class)
+                .hasMessage("Insufficient permissions");
+        verify(userServiceClient, times(1)).verifyToken(TOKEN);
+    }
+
+    @Test
+    void concurrentLookupsShareOneCall() throws Exception {
+        CountDownLatch called = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userServiceClient.verifyToken(TOKEN)).thenAnswer(invocation -> {
+            called.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return admin();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<VerifyTokenResponse>> lookups = new ArrayList<>();
+            lookups.add(executor.submit(() -> cache.verify(TOKEN)));
+            assertThat(called.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 7; i++) {
+                lookups.add(executor.submit(() -> cache.verify(TOKEN)));
+            }
+            // Give the other lookups time to join the call in flight
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<VerifyTokenResponse> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS).getUid()).isEqualTo("admin-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userServiceClient, times(1)).verifyToken(TOKEN);
+    }
+
+    @Test
+    void transientFailuresAreNotCached() {
+        when(userServiceClient.verifyToken(TOKEN))
+                .thenThrow(new ExternalServiceException("User service is currently unavailable"))
+                .thenReturn(admin());
+
+        assertThatThrownBy(() -> cache.verify(TOKEN)).isInstanceOf(ExternalServiceException.class);
+        assertThat(cache.verify(TOKEN).getUid()).isEqualTo("admin-1");
+        verify(userServiceClient, times(2)).verifyToken(TOKEN);
+    }
+
+    private static VerifyTokenResponse admin() {
+        return VerifyTokenResponse.builder()
+                .valid(true)
+                .uid("admin-1")
+                .role("ADMIN")
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.dto.DangerAlertResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DangerAlertBroadcasterTest {
+
+    private final DangerAlertBroadcaster broadcaster =
+            new DangerAlertBroadcaster(Duration.ofMinutes(1), 10, 2, 3);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        RecordingEmitter fast = new RecordingEmitter(null);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        broadcaster.register(fast, null);
+        broadcaster.register(slow, null);
+
+        // The slow client blocks on its first send; its queue holds replay (2) + send queue (3) more
+        for (int i = 0; i < 10; i++) {
+            broadcaster.publish(alert("r-" + i));
+            fast.awaitReports(i + 1);
+        }
+
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(fast.reports).containsExactly("r-0", "r-1", "r-2", "r-3", "r-4", "r-5", "r-6", "r-7", "r-8", "r-9");
+    }
+
+    @Test
+    void reconnectingSubscriberReplaysMissedAlertsInOrder() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(null);
+        broadcaster.register(first, null);
+        broadcaster.publish(alert("r-0"));
+        first.awaitReports(1);
+        String lastSeen = first.ids.get(0);
+
+        broadcaster.publish(alert("r-1"));
+        broadcaster.publish(alert("r-2"));
+        RecordingEmitter resumed = new RecordingEmitter(null);
+        broadcaster.register(resumed, lastSeen);
+        broadcaster.publish(alert("r-3"));
+
+        resumed.awaitReports(3);
+        assertThat(resumed.reports).containsExactly("r-1", "r-2", "r-3");
+    }
+
+    private static DangerAlertResponse alert(String reportId) {
+        return DangerAlertResponse.builder().reportId(reportId).build();
+    }
+
+    /**
+     * Records what would be written to the client, optionally blocking every send until released.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch blockUntil;
+        private final List<String> reports = new CopyOnWriteArrayList<>();
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch blockUntil) {
+            this.blockUntil = blockUntil;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) {
+            if (blockUntil != null) {
+                try {
+                    blockUntil.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            for (DataWithMediaType item : items) {
+                if (item.getData() instanceof DangerAlertResponse alert) {
+                    reports.add(alert.getReportId());
+                } else if (item.getData() instanceof String text && text.startsWith("id:")) {
+                    ids.add(text.substring(3, text.indexOf('\n')));
+                }
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        void awaitReports(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (reports.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+    }
+}
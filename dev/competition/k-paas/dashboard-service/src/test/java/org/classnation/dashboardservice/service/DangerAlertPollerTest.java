@@ -0,0 +1,70 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.dto.DangerAlertResponse;
+import org.classnation.dashboardservice.dto.LatestDangerResponse;
+import org.classnation.dashboardservice.repository.HumanRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DangerAlertPollerTest {
+
+    private static final int PARALLELISM = 2;
+    private static final int MAX_QUEUE = 10;
+
+    private final HumanRepository humanRepository = mock(HumanRepository.class);
+    private final ReportServiceClient reportServiceClient = mock(ReportServiceClient.class);
+    private final DangerAlertBroadcaster broadcaster = mock(DangerAlertBroadcaster.class);
+    private final LatestDangerFetcher fetcher = new LatestDangerFetcher(reportServiceClient, PARALLELISM, MAX_QUEUE);
+
+    @AfterEach
+    void shutdown() {
+        fetcher.shutdown();
+    }
+
+    @Test
+    void pollsEveryMatchedHumanEvenWithMoreThanTheFetcherCanQueue() {
+        List<String> matched = IntStream.range(0, 10 * MAX_QUEUE)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+        when(humanRepository.findMatchedHumanUuids()).thenReturn(matched);
+
+        AtomicInteger reports = new AtomicInteger();
+        LocalDateTime reportedAt = LocalDateTime.now().plusMinutes(1);
+        when(reportServiceClient.getLatestDangerReport(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(1);
+            return LatestDangerResponse.builder()
+                    .reportId("r-" + reports.incrementAndGet())
+                    .isDanger(true)
+                    .createdAt(reportedAt)
+                    .build();
+        });
+
+        // The window must leave room for batch requests in the fetcher's queue
+        DangerAlertPoller poller = new DangerAlertPoller(humanRepository, fetcher, broadcaster,
+                Duration.ofSeconds(20), MAX_QUEUE / 2);
+        poller.poll();
+
+        verify(reportServiceClient, times(matched.size())).getLatestDangerReport(anyString());
+        ArgumentCaptor<DangerAlertResponse> alerts = ArgumentCaptor.forClass(DangerAlertResponse.class);
+        verify(broadcaster, times(matched.size())).publish(alerts.capture());
+        assertThat(alerts.getAllValues())
+                .extracting(DangerAlertResponse::getHumanUuid)
+                .containsExactlyInAnyOrderElementsOf(matched);
+    }
+}
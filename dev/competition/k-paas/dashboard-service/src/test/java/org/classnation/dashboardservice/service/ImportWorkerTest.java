@@ -0,0 +1,109 @@
+package org.classnation.dashboardservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.classnation.dashboardservice.dto.BulkUpsertResponse;
+import org.classnation.dashboardservice.dto.DogBulkUpsertRequest;
+import org.classnation.dashboardservice.dto.ImportFormat;
+import org.classnation.dashboardservice.dto.ImportProgressResponse;
+import org.classnation.dashboardservice.dto.ImportRowError;
+import org.classnation.dashboardservice.dto.ImportStatus;
+import org.classnation.dashboardservice.dto.ImportTarget;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImportWorkerTest {
+
+    @TempDir
+    private Path dir;
+
+    private final DogService dogService = mock(DogService.class);
+
+    @Test
+    void csvParseErrorFailsOnlyItsRow() throws IOException {
+        acceptChunks();
+        ImportJob job = job(ImportFormat.CSV, 100);
+
+        worker(2).run(job, file("""
+                dogUuid,name,size,activity,temperament
+                %s,Baduk,MEDIUM,LOW,CALM
+                %s,Nabi,SMALL,HIGH,CALM,unexpected,columns
+                %s,Bori,LARGE,MEDIUM,CALM
+                %s,Kong,HUGE,MEDIUM,CALM
+                """.formatted(uuid(), uuid(), uuid(), uuid())));
+
+        ImportProgressResponse progress = job.toResponse();
+        assertThat(progress.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(progress.getProcessedRows()).isEqualTo(4);
+        assertThat(progress.getImportedRows()).isEqualTo(2);
+        assertThat(progress.getFailedRows()).isEqualTo(2);
+        assertThat(progress.getErrors()).extracting(ImportRowError::getLine).containsExactly(3L, 5L);
+        assertThat(progress.getErrorsTruncated()).isFalse();
+    }
+
+    @Test
+    void failedChunkIsOneReportedErrorWithoutTruncation() throws IOException {
+        when(dogService.bulkUpsertDogs(any())).thenThrow(new IllegalStateException("deadlock"));
+        ImportJob job = job(ImportFormat.NDJSON, 1);
+
+        worker(3).run(job, file(dog() + dog() + dog()));
+
+        ImportProgressResponse progress = job.toResponse();
+        assertThat(progress.getFailedRows()).isEqualTo(3);
+        assertThat(progress.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getError()).contains("Chunk of 3 rows starting at line 1"));
+        assertThat(progress.getErrorsTruncated()).isFalse();
+    }
+
+    @Test
+    void reportsTruncationOnceErrorsHitTheCap() throws IOException {
+        acceptChunks();
+        ImportJob job = job(ImportFormat.NDJSON, 2);
+
+        worker(100).run(job, file("{\"dogUuid\":\"not-a-uuid\"}\n".repeat(3) + dog()));
+
+        ImportProgressResponse progress = job.toResponse();
+        assertThat(progress.getImportedRows()).isEqualTo(1);
+        assertThat(progress.getFailedRows()).isEqualTo(3);
+        assertThat(progress.getErrors()).hasSize(2);
+        assertThat(progress.getErrorsTruncated()).isTrue();
+    }
+
+    private void acceptChunks() {
+        when(dogService.bulkUpsertDogs(any())).thenAnswer(invocation -> BulkUpsertResponse.builder()
+                .requested(invocation.<DogBulkUpsertRequest>getArgument(0).getDogs().size())
+                .build());
+    }
+
+    private ImportWorker worker(int chunkSize) {
+        return new ImportWorker(dogService, mock(HumanService.class), new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), chunkSize);
+    }
+
+    private static ImportJob job(ImportFormat format, int maxReportedErrors) {
+        return new ImportJob(UUID.randomUUID().toString(), ImportTarget.DOGS, format, maxReportedErrors);
+    }
+
+    private Path file(String content) throws IOException {
+        return Files.writeString(dir.resolve(UUID.randomUUID() + ".import"), content);
+    }
+
+    private static String dog() {
+        return "{\"dogUuid\":\"" + uuid() + "\",\"name\":\"Baduk\",\"size\":\"MEDIUM\",\"activity\":\"LOW\","
+                + "\"temperament\":\"CALM\"}\n";
+    }
+
+    private static String uuid() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -0,0 +1,95 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.dto.CursorPageResponse;
+import org.classnation.dashboardservice.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 30, 15, 123_000_000);
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        KeysetCursor cursor = new KeysetCursor(NOW, 42L);
+
+        assertThat(KeysetCursor.startingAt(cursor.encode(), null)).isEqualTo(cursor);
+        // URL-safe and unpadded, so it can go into a query string as is
+        assertThat(cursor.encode()).doesNotContain("=", "+", "/");
+    }
+
+    @Test
+    void withoutCursorStartsAtTheUpperBoundInclusively() {
+        assertThat(KeysetCursor.startingAt(null, NOW)).isEqualTo(new KeysetCursor(NOW, Long.MAX_VALUE));
+        assertThat(KeysetCursor.startingAt(" ", NOW)).isEqualTo(new KeysetCursor(NOW, Long.MAX_VALUE));
+        assertThat(KeysetCursor.startingAt(null, null).id()).isEqualTo(Long.MAX_VALUE);
+        assertThat(KeysetCursor.startingAt(null, null).timestamp()).isAfter(NOW);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "%%%", "abc"})
+    void garbageCursorIsAValidationError(String cursor) {
+        assertThatThrownBy(() -> KeysetCursor.startingAt(cursor, null))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid cursor: " + cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"no-separator", "not-a-date|42", "2026-10-18T09:30|abc"})
+    void wellEncodedCursorWithMalformedContentIsAValidationError(String content) {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(content.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.startingAt(cursor, null)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void pageSizeIsBetweenOneAndOneHundred() {
+        assertThat(KeysetCursor.pageSize(null)).isEqualTo(KeysetCursor.DEFAULT_PAGE_SIZE);
+        assertThat(KeysetCursor.pageSize(1)).isEqualTo(1);
+        assertThat(KeysetCursor.pageSize(100)).isEqualTo(100);
+        assertThatThrownBy(() -> KeysetCursor.pageSize(0)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> KeysetCursor.pageSize(101)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void exactlySizeRowsIsTheLastPage() {
+        CursorPageResponse<Long> page = page(rows(3), 3);
+
+        assertThat(page.getItems()).containsExactly(3L, 2L, 1L);
+        assertThat(page.getHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void extraRowSignalsANextPageThatStartsAfterTheLastRowReturned() {
+        CursorPageResponse<Long> page = page(rows(4), 3);
+
+        assertThat(page.getItems()).containsExactly(4L, 3L, 2L);
+        assertThat(page.getHasNext()).isTrue();
+        assertThat(KeysetCursor.startingAt(page.getNextCursor(), null)).isEqualTo(new KeysetCursor(timestamp(2L), 2L));
+    }
+
+    private static CursorPageResponse<Long> page(List<Long> rows, int size) {
+        return KeysetCursor.page(rows, size, KeysetCursorTest::timestamp, id -> id, id -> id);
+    }
+
+    // Ids in descending order, as the listing queries return them
+    private static List<Long> rows(int count) {
+        return LongStream.rangeClosed(1, count).map(i -> count + 1 - i).boxed().toList();
+    }
+
+    private static LocalDateTime timestamp(Long id) {
+        return NOW.minusMinutes(100 - id);
+    }
+}
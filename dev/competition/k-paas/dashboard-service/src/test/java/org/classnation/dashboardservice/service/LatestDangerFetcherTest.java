@@ -0,0 +1,112 @@
+package org.classnation.dashboardservice.service;
+
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.dto.LatestDangerResponse;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LatestDangerFetcherTest {
+
+    private static final String HUMAN = "3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4e";
+
+    private final ReportServiceClient reportServiceClient = mock(ReportServiceClient.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private final LatestDangerResponse report = LatestDangerResponse.builder().reportId("r-1").build();
+    private LatestDangerFetcher fetcher;
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        fetcher.shutdown();
+    }
+
+    @Test
+    void concurrentRequestsForOneHumanShareOneCall() throws Exception {
+        fetcher = blockingFetcher(2, 10);
+
+        CompletableFuture<LatestDangerResponse> first = fetcher.fetch(HUMAN);
+        CompletableFuture<LatestDangerResponse> second = fetcher.fetch(HUMAN);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(report);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(report);
+        verify(reportServiceClient, times(1)).getLatestDangerReport(HUMAN);
+    }
+
+    @Test
+    void callKeepsRunningWhileAnyCallerWaits() throws Exception {
+        fetcher = blockingFetcher(2, 10);
+
+        CompletableFuture<LatestDangerResponse> timedOut = fetcher.fetch(HUMAN);
+        CompletableFuture<LatestDangerResponse> waiting = fetcher.fetch(HUMAN);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        timedOut.cancel(false);
+        release.countDown();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isSameAs(report);
+        assertThat(interrupted.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void callIsInterruptedOnceEveryCallerCancelled() throws Exception {
+        fetcher = blockingFetcher(2, 10);
+
+        CompletableFuture<LatestDangerResponse> first = fetcher.fetch(HUMAN);
+        CompletableFuture<LatestDangerResponse> second = fetcher.fetch(HUMAN);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        first.cancel(false);
+        second.cancel(false);
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // A later request starts a new call instead of joining the cancelled one
+        CompletableFuture<LatestDangerResponse> retry = fetcher.fetch(HUMAN);
+        release.countDown();
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isSameAs(report);
+    }
+
+    @Test
+    void failsFastOnceTheQueueIsFull() {
+        fetcher = blockingFetcher(1, 1);
+
+        fetcher.fetch("7a1c2d3e-4f5a-4b6c-9d8e-0f1a2b3c4d5e");
+        fetcher.fetch("b4c5d6e7-f8a9-4b0c-8d1e-2f3a4b5c6d7e");
+        CompletableFuture<LatestDangerResponse> rejected = fetcher.fetch(HUMAN);
+
+        assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ServiceUnavailableException.class);
+    }
+
+    private LatestDangerFetcher blockingFetcher(int parallelism, int maxQueue) {
+        when(reportServiceClient.getLatestDangerReport(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return report;
+        });
+        return new LatestDangerFetcher(reportServiceClient, parallelism, maxQueue);
+    }
+}
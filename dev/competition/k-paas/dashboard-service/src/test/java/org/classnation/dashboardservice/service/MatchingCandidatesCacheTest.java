@@ -0,0 +1,107 @@
+package org.classnation.dashboardservice.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.dto.MatchingCandidateResponse;
+import org.classnation.dashboardservice.dto.MatchingCandidatesResponse;
+import org.classnation.dashboardservice.event.DogAdoptionStatusChangedEvent;
+import org.classnation.dashboardservice.event.DogRegisteredEvent;
+import org.classnation.dashboardservice.event.HumansUpdatedEvent;
+import org.classnation.dashboardservice.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchingCandidatesCacheTest {
+
+    private static final String HUMAN = "3f2b8c1e-4d5a-4b6c-8d7e-9f0a1b2c3d4e";
+    private static final String OTHER_HUMAN = "7a1c2d3e-4f5a-4b6c-9d8e-0f1a2b3c4d5e";
+    private static final String DOG = "b4c5d6e7-f8a9-4b0c-8d1e-2f3a4b5c6d7e";
+
+    private final ReportServiceClient reportServiceClient = mock(ReportServiceClient.class);
+    private final MatchingCandidatesCache cache = new MatchingCandidatesCache(reportServiceClient,
+            CircuitBreakerRegistry.ofDefaults(), new SimpleMeterRegistry(), true, 100,
+            Duration.ofMinutes(5), Duration.ofHours(1));
+
+    @Test
+    void servesFreshEntriesFromCache() {
+        MatchingCandidatesResponse candidates = candidates(DOG);
+        when(reportServiceClient.getMatchingCandidates(HUMAN, 3)).thenReturn(candidates);
+
+        cache.getCandidates(HUMAN, 3);
+
+        assertThat(cache.getCandidates(HUMAN, 3)).isSameAs(candidates);
+        verify(reportServiceClient, times(1)).getMatchingCandidates(HUMAN, 3);
+    }
+
+    @Test
+    void dogRegistrationRefreshesEntriesOnTheirNextRead() {
+        MatchingCandidatesResponse before = candidates(DOG);
+        MatchingCandidatesResponse after = candidates(DOG);
+        when(reportServiceClient.getMatchingCandidates(HUMAN, 3)).thenReturn(before, after);
+        cache.getCandidates(HUMAN, 3);
+
+        cache.onDogRegistered(new DogRegisteredEvent("c1d2e3f4-a5b6-4c7d-8e9f-0a1b2c3d4e5f"));
+
+        assertThat(cache.getCandidates(HUMAN, 3)).isSameAs(after);
+    }
+
+    @Test
+    void entriesMarkedStaleStillServeWhenReportServiceFails() {
+        MatchingCandidatesResponse candidates = candidates(DOG);
+        when(reportServiceClient.getMatchingCandidates(HUMAN, 3))
+                .thenReturn(candidates)
+                .thenThrow(new ServiceUnavailableException("Report service is currently unavailable"));
+        cache.getCandidates(HUMAN, 3);
+
+        cache.onDogAdoptionStatusChanged(new DogAdoptionStatusChangedEvent(DOG, false));
+
+        assertThat(cache.getCandidates(HUMAN, 3)).isSameAs(candidates);
+        verify(reportServiceClient, times(2)).getMatchingCandidates(HUMAN, 3);
+    }
+
+    @Test
+    void humanUpdateDropsOnlyThatHumansEntries() {
+        when(reportServiceClient.getMatchingCandidates(HUMAN, 3)).thenReturn(candidates(DOG));
+        when(reportServiceClient.getMatchingCandidates(OTHER_HUMAN, 3)).thenReturn(candidates(DOG));
+        cache.getCandidates(HUMAN, 3);
+        cache.getCandidates(OTHER_HUMAN, 3);
+
+        cache.onHumansUpdated(HumansUpdatedEvent.of(HUMAN));
+        cache.getCandidates(HUMAN, 3);
+        cache.getCandidates(OTHER_HUMAN, 3);
+
+        verify(reportServiceClient, times(2)).getMatchingCandidates(HUMAN, 3);
+        verify(reportServiceClient, times(1)).getMatchingCandidates(OTHER_HUMAN, 3);
+    }
+
+    @Test
+    void adoptedDogDropsEntriesListingIt() {
+        when(reportServiceClient.getMatchingCandidates(HUMAN, 3)).thenReturn(candidates(DOG));
+        when(reportServiceClient.getMatchingCandidates(OTHER_HUMAN, 3))
+                .thenReturn(candidates("d2e3f4a5-b6c7-4d8e-9f0a-1b2c3d4e5f6a"));
+        cache.getCandidates(HUMAN, 3);
+        cache.getCandidates(OTHER_HUMAN, 3);
+
+        cache.onDogAdoptionStatusChanged(new DogAdoptionStatusChangedEvent(DOG, true));
+        cache.getCandidates(HUMAN, 3);
+        cache.getCandidates(OTHER_HUMAN, 3);
+
+        verify(reportServiceClient, times(2)).getMatchingCandidates(HUMAN, 3);
+        verify(reportServiceClient, times(1)).getMatchingCandidates(OTHER_HUMAN, 3);
+    }
+
+    private static MatchingCandidatesResponse candidates(String dogUuid) {
+        return MatchingCandidatesResponse.builder()
+                .candidates(List.of(MatchingCandidateResponse.builder().dogUuid(dogUuid).score(0.9).build()))
+                .build();
+    }
+}
@@ -0,0 +1,221 @@
+package org.classnation.dashboardservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.classnation.dashboardservice.client.ReportServiceClient;
+import org.classnation.dashboardservice.client.dto.ReportServiceConfirmAdoptionResponse;
+import org.classnation.dashboardservice.client.dto.ReportServiceRegisterDogRequest;
+import org.classnation.dashboardservice.config.EntityCacheConfig;
+import org.classnation.dashboardservice.entity.OutboxEvent;
+import org.classnation.dashboardservice.entity.OutboxEventType;
+import org.classnation.dashboardservice.entity.OutboxStatus;
+import org.classnation.dashboardservice.repository.OutboxEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(showSql = false, properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "dashboard.entity-cache.enabled=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+@Import(EntityCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ReportServiceClient reportServiceClient = mock(ReportServiceClient.class);
+    private final MatchingService matchingService = mock(MatchingService.class);
+
+    @AfterEach
+    void cleanUp() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void deliversDueEventsBehindOnesThatAreBackingOff() throws Exception {
+        OutboxEvent backingOff = save(registerDog(UUID.randomUUID().toString())
+                .nextAttemptAt(LocalDateTime.now().plusMinutes(5)));
+        OutboxEvent due = save(registerDog(UUID.randomUUID().toString()));
+
+        relay(1).relay();
+
+        assertThat(reload(due).getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(reload(backingOff).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(reload(backingOff).getAttempts()).isZero();
+    }
+
+    @Test
+    void failedEventIsRescheduledAndHoldsBackItsAggregate() throws Exception {
+        String dogUuid = UUID.randomUUID().toString();
+        OutboxEvent first = save(registerDog(dogUuid));
+        OutboxEvent second = save(registerDog(dogUuid));
+        doThrow(new IllegalStateException("report-service down")).when(reportServiceClient).registerDog(any());
+
+        relay(100).relay();
+
+        OutboxEvent failed = reload(first);
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).isEqualTo("report-service down");
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(failed.getClaimedUntil()).isNull();
+        assertThat(reload(second).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verify(reportServiceClient, times(1)).registerDog(any());
+    }
+
+    @Test
+    void deliversTheNextEventOfAnAggregateOnceTheFirstIsSent() throws Exception {
+        String dogUuid = UUID.randomUUID().toString();
+        OutboxEvent first = save(registerDog(dogUuid));
+        OutboxEvent second = save(registerDog(dogUuid));
+        OutboxRelay relay = relay(100);
+
+        relay.relay();
+        assertThat(reload(first).getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(reload(second).getStatus()).isEqualTo(OutboxStatus.PENDING);
+
+        relay.relay();
+        assertThat(reload(second).getStatus()).isEqualTo(OutboxStatus.SENT);
+        assertThat(reload(second).getClaimedUntil()).isNull();
+    }
+
+    @Test
+    void skipsEventsLeasedByAnotherInstance() throws Exception {
+        OutboxEvent leased = save(registerDog(UUID.randomUUID().toString())
+                .claimedUntil(LocalDateTime.now().plusMinutes(1)));
+
+        relay(100).relay();
+
+        assertThat(reload(leased).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verify(reportServiceClient, never()).registerDog(any());
+    }
+
+    @Test
+    void reclaimsEventsWhoseLeaseExpired() throws Exception {
+        OutboxEvent abandoned = save(registerDog(UUID.randomUUID().toString())
+                .claimedUntil(LocalDateTime.now().minusSeconds(1)));
+
+        relay(100).relay();
+
+        assertThat(reload(abandoned).getStatus()).isEqualTo(OutboxStatus.SENT);
+    }
+
+    @Test
+    void confirmationIsCompensatedAfterTheLastAttempt() throws Exception {
+        String humanUuid = UUID.randomUUID().toString();
+        String dogUuid = UUID.randomUUID().toString();
+        OutboxEvent confirmation = save(confirmAdoption(humanUuid, dogUuid).attempts(MAX_ATTEMPTS - 1));
+        doThrow(new IllegalStateException("report-service down"))
+                .when(reportServiceClient).confirmAdoption(any(), anyString());
+
+        relay(100).relay();
+
+        assertThat(reload(confirmation).getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(reload(confirmation).getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        verify(matchingService).failConfirmation(eq(humanUuid), eq(dogUuid), anyString());
+    }
+
+    @Test
+    void retryAfterAFailedCompletionReusesReportServicesReply() throws Exception {
+        String humanUuid = UUID.randomUUID().toString();
+        String dogUuid = UUID.randomUUID().toString();
+        OutboxEvent confirmation = save(confirmAdoption(humanUuid, dogUuid));
+        ReportServiceConfirmAdoptionResponse report = new ReportServiceConfirmAdoptionResponse("report-1", true);
+        when(reportServiceClient.confirmAdoption(any(), anyString())).thenReturn(report);
+        doThrow(new IllegalStateException("deadlock")).doNothing()
+                .when(matchingService).completeConfirmation(eq(humanUuid), eq(dogUuid), any());
+        OutboxRelay relay = relay(100);
+
+        relay.relay();
+        assertThat(reload(confirmation).getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(reload(confirmation).getResponse()).contains("report-1");
+
+        makeDue(confirmation);
+        relay.relay();
+
+        assertThat(reload(confirmation).getStatus()).isEqualTo(OutboxStatus.SENT);
+        verify(reportServiceClient, times(1)).confirmAdoption(any(), eq("outbox-" + confirmation.getId()));
+        verify(matchingService, times(2)).completeConfirmation(humanUuid, dogUuid, report);
+    }
+
+    @Test
+    void confirmationAcceptedByReportServiceIsNeverCompensated() throws Exception {
+        String humanUuid = UUID.randomUUID().toString();
+        String dogUuid = UUID.randomUUID().toString();
+        OutboxEvent confirmation = save(confirmAdoption(humanUuid, dogUuid)
+                .attempts(MAX_ATTEMPTS - 1)
+                .response("{\"reportId\":\"report-1\",\"isDanger\":false}"));
+        doThrow(new IllegalStateException("deadlock"))
+                .when(matchingService).completeConfirmation(eq(humanUuid), eq(dogUuid), any());
+
+        relay(100).relay();
+
+        assertThat(reload(confirmation).getStatus()).isEqualTo(OutboxStatus.FAILED);
+        verify(reportServiceClient, never()).confirmAdoption(any(), anyString());
+        verify(matchingService, never()).failConfirmation(anyString(), anyString(), anyString());
+    }
+
+    private OutboxRelay relay(int batchSize) {
+        return new OutboxRelay(outboxEventRepository, reportServiceClient, new ObjectMapper(),
+                mock(ApplicationEventPublisher.class), matchingService, transactionManager, batchSize, 2,
+                MAX_ATTEMPTS, Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofDays(7), Duration.ofMinutes(2));
+    }
+
+    private OutboxEvent.OutboxEventBuilder registerDog(String dogUuid) throws Exception {
+        return OutboxEvent.builder()
+                .aggregateId(dogUuid)
+                .eventType(OutboxEventType.REGISTER_DOG)
+                .payload(new ObjectMapper().writeValueAsString(
+                        ReportServiceRegisterDogRequest.builder().name("Baduk").build()));
+    }
+
+    private OutboxEvent.OutboxEventBuilder confirmAdoption(String humanUuid, String dogUuid) {
+        return OutboxEvent.builder()
+                .aggregateId(humanUuid)
+                .eventType(OutboxEventType.CONFIRM_ADOPTION)
+                .payload("{\"humanUuid\":\"" + humanUuid + "\",\"dogUuid\":\"" + dogUuid + "\"}");
+    }
+
+    private void makeDue(OutboxEvent event) {
+        OutboxEvent current = reload(event);
+        current.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+        outboxEventRepository.save(current);
+    }
+
+    private OutboxEvent save(OutboxEvent.OutboxEventBuilder event) {
+        return outboxEventRepository.save(event.build());
+    }
+
+    private OutboxEvent reload(OutboxEvent event) {
+        return outboxEventRepository.findById(event.getId()).orElseThrow();
+    }
+}
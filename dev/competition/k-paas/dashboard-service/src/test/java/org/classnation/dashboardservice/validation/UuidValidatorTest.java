@@ -0,0 +1,79 @@
+package org.classnation.dashboardservice.validation;
+
+import org.classnation.dashboardservice.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UuidValidatorTest {
+
+    private static final String CANONICAL = "6ccd780c-baba-1026-9564-5b8c656024db";
+
+    @Test
+    void parsesLikeJavaUtilUuid() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = UUID.randomUUID();
+
+            assertThat(UuidValidator.parse(uuid.toString())).isEqualTo(uuid);
+            assertThat(UuidValidator.parse(uuid.toString().toUpperCase())).isEqualTo(uuid);
+            assertThat(UuidValidator.isValid(uuid.toString())).isTrue();
+        }
+        assertThat(UuidValidator.parse("00000000-0000-0000-0000-000000000000")).isEqualTo(new UUID(0, 0));
+        assertThat(UuidValidator.parse("ffffffff-ffff-ffff-ffff-ffffffffffff")).isEqualTo(new UUID(-1, -1));
+    }
+
+    @Test
+    void canonicalLowerCasesUpperAndMixedCase() {
+        assertThat(UuidValidator.canonical("6CCD780C-BABA-1026-9564-5B8C656024DB")).isEqualTo(CANONICAL);
+        assertThat(UuidValidator.canonical("6cCd780C-bAbA-1026-9564-5b8C656024Db")).isEqualTo(CANONICAL);
+    }
+
+    @Test
+    void canonicalReturnsCanonicalInputAsIs() {
+        String value = new String(CANONICAL.toCharArray());
+
+        assertThat(UuidValidator.canonical(value)).isSameAs(value);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {
+            // wrong length
+            "6ccd780c-baba-1026-9564-5b8c656024d",
+            "6ccd780c-baba-1026-9564-5b8c656024dbb",
+            "6ccd780cbaba102695645b8c656024db",
+            // misplaced or missing hyphens
+            "6ccd780-cbaba-1026-9564-5b8c656024db",
+            "6ccd780c-baba-10269-564-5b8c656024db",
+            "6ccd780c-baba-1026-95645-b8c656024db",
+            "6ccd780c_baba_1026_9564_5b8c656024db",
+            "-6ccd780cbaba-1026-9564-5b8c656024db",
+            // non-hex ASCII in each group
+            "gccd780c-baba-1026-9564-5b8c656024db",
+            "6ccd780c-bazb-1026-9564-5b8c656024db",
+            "6ccd780c-baba-102x-9564-5b8c656024db",
+            "6ccd780c-baba-1026-95 4-5b8c656024db",
+            "6ccd780c-baba-1026-9564-5b8c65602-db",
+            "6ccd780c-baba-1026-9564-5b8c656024d/",
+            "6ccd780c-baba-1026-9564-5b8c656024d:",
+            "6ccd780c-baba-1026-9564-5b8c656024d@",
+            "6ccd780c-baba-1026-9564-5b8c656024dG",
+            // chars at and above 256, including ones whose low byte is a hex digit
+            "6ccd780c-baba-1026-9564-5b8c656024d\u0161",
+            "\u0130ccd780c-baba-1026-9564-5b8c656024db",
+            "6ccd780c-baba-1026-9564-5b8c656024d\uFF41",
+            "6ccd780c-baba-1026-9564-5b8c656024d\u0100"})
+    void rejectsMalformedInput(String value) {
+        assertThat(UuidValidator.isValid(value)).isFalse();
+        assertThatThrownBy(() -> UuidValidator.parse(value)).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> UuidValidator.canonical(value, "dog UUID"))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("Invalid dog UUID format: " + value);
+    }
+}